@@ -34,6 +34,9 @@ public final class ConfigurationException extends RuntimeException {
   private final com.google.common.collect.ImmutableSet<Message> messages;
   private Object partialValue = null;
 
+  /** The formatted message, computed the first time it's needed. */
+  private transient String formattedMessage;
+
   /** Creates a ConfigurationException containing {@code messages}. */
   public ConfigurationException(Iterable<Message> messages) {
     this.messages = com.google.common.collect.ImmutableSet.copyOf(messages);
@@ -70,7 +73,11 @@ public final class ConfigurationException extends RuntimeException {
   }
 
   @Override public String getMessage() {
-    return Messages.formatMessages("Guice configuration errors", messages);
+    String result = formattedMessage;
+    if (result == null) {
+      result = formattedMessage = Messages.formatMessages("Guice configuration errors", messages);
+    }
+    return result;
   }
 
   private static final long serialVersionUID = 0;
@@ -16,12 +16,18 @@
 
 package com.google.inject;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+import com.google.common.collect.ImmutableList;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.TypeConverterBinding;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -179,6 +185,34 @@ public interface Injector {
    */
   <T> Provider<T> getProvider(Class<T> type);
 
+  /**
+   * Returns the provider for the given injection key if it is bound, or an empty optional
+   * otherwise. Like {@link #getExistingBinding}, this finds explicit bindings and just-in-time
+   * bindings that were already created, but doesn't create just-in-time bindings for keys that
+   * aren't bound. Finding that a key isn't bound doesn't build any error messages or exceptions, so
+   * this is the cheapest way to look up an optional dependency:
+   *
+   * <pre>{@code
+   * Clock clock = injector.findProvider(Clock.class).map(Provider::get).orElse(systemClock);
+   * }</pre>
+   *
+   * @since 7.1
+   */
+  default <T> Optional<Provider<T>> findProvider(Key<T> key) {
+    Binding<T> binding = getExistingBinding(key);
+    return binding == null ? Optional.empty() : Optional.of(binding.getProvider());
+  }
+
+  /**
+   * Returns the provider for the given type if it is bound, or an empty optional otherwise. See
+   * {@link #findProvider(Key)}.
+   *
+   * @since 7.1
+   */
+  default <T> Optional<Provider<T>> findProvider(Class<T> type) {
+    return findProvider(Key.get(type));
+  }
+
   /**
    * Returns the appropriate instance for the given injection key; equivalent to {@code
    * getProvider(key).get()}. When feasible, avoid using this method, in favor of having Guice
@@ -199,6 +233,49 @@ public interface Injector {
    */
   <T> T getInstance(Class<T> type);
 
+  /**
+   * Returns a plan that provisions instances of {@code keys} together. The bindings of the keys are
+   * looked up when the plan is created, and each call to {@link ProvisionPlan#provision} enters the
+   * injector once for all of them. Keep the plan to provision the same keys repeatedly.
+   *
+   * @throws ConfigurationException if this injector cannot find or create the provider of any of
+   *     the keys.
+   * @since 7.1
+   */
+  default ProvisionPlan getProvisionPlan(List<? extends Key<?>> keys) {
+    ImmutableList<Key<?>> planKeys = ImmutableList.copyOf(keys);
+    ImmutableList<Provider<?>> providers =
+        planKeys.stream().map(this::getProvider).collect(toImmutableList());
+    return new ProvisionPlan() {
+      @Override
+      public List<Key<?>> getKeys() {
+        return planKeys;
+      }
+
+      @Override
+      public List<Object> provision() {
+        Object[] instances = new Object[providers.size()];
+        for (int i = 0; i < instances.length; i++) {
+          instances[i] = providers.get(i).get();
+        }
+        return Collections.unmodifiableList(Arrays.asList(instances));
+      }
+    };
+  }
+
+  /**
+   * Returns an instance of each of {@code keys}, in order; equivalent to {@code
+   * getProvisionPlan(keys).provision()}. Keys that were provisioned as null have null instances.
+   *
+   * @throws ConfigurationException if this injector cannot find or create the provider of any of
+   *     the keys.
+   * @throws ProvisionException if there was a runtime failure while providing an instance.
+   * @since 7.1
+   */
+  default List<Object> getInstances(List<? extends Key<?>> keys) {
+    return getProvisionPlan(keys).provision();
+  }
+
   /**
    * Returns this injector's parent, or {@code null} if this is a top-level injector.
    *
@@ -26,6 +26,7 @@ import com.google.inject.internal.Annotations;
 import com.google.inject.internal.MoreTypes;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 
 /**
  * Guice uses Key objects to identify a dependency that can be resolved by the Guice {@link
@@ -419,8 +420,32 @@ public class Key<T> {
 
     final Annotation annotation;
 
+    /** The value of {@link #memberValues} until they're read. */
+    private static final Object[] UNREAD = new Object[0];
+
+    // Cached so that keys can be compared without calling the annotation's equals, which is
+    // reflective for the JDK's implementation of annotations. The member values are read the first
+    // time they're compared, since most keys are only hashed, or compared to the same instance.
+    // memberValues is null if the members couldn't be read, in which case equals falls back to the
+    // annotation's.
+    private final Class<? extends Annotation> annotationType;
+    private volatile Object[] memberValues = UNREAD;
+    private final int hashCode;
+
     AnnotationInstanceStrategy(Annotation annotation) {
       this.annotation = checkNotNull(annotation, "annotation");
+      this.annotationType = annotation.annotationType();
+      this.hashCode = annotation.hashCode();
+    }
+
+    private Object[] getMemberValues() {
+      Object[] local = memberValues;
+      if (local == UNREAD) {
+        // Reading them again yields the same values, whichever thread wins.
+        local = Annotations.memberValues(annotation);
+        memberValues = local;
+      }
+      return local;
     }
 
     @Override
@@ -440,7 +465,7 @@ public class Key<T> {
 
     @Override
     public Class<? extends Annotation> getAnnotationType() {
-      return annotation.annotationType();
+      return annotationType;
     }
 
     @Override
@@ -450,12 +475,20 @@ public class Key<T> {
       }
 
       AnnotationInstanceStrategy other = (AnnotationInstanceStrategy) o;
+      if (hashCode != other.hashCode || annotationType != other.annotationType) {
+        return false;
+      }
+      Object[] values = getMemberValues();
+      Object[] otherValues = other.getMemberValues();
+      if (values != null && otherValues != null) {
+        return Arrays.deepEquals(values, otherValues);
+      }
       return annotation.equals(other.annotation);
     }
 
     @Override
     public int hashCode() {
-      return annotation.hashCode();
+      return hashCode;
     }
 
     @Override
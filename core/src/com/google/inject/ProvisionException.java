@@ -34,6 +34,9 @@ public final class ProvisionException extends RuntimeException {
 
   private final ImmutableSet<Message> messages;
 
+  /** The formatted message, computed the first time it's needed. */
+  private transient String formattedMessage;
+
   /** Creates a ProvisionException containing {@code messages}. */
   public ProvisionException(Iterable<Message> messages) {
     this.messages = ImmutableSet.copyOf(messages);
@@ -57,7 +60,13 @@ public final class ProvisionException extends RuntimeException {
 
   @Override
   public String getMessage() {
-    return Messages.formatMessages("Unable to provision, see the following errors", messages);
+    String result = formattedMessage;
+    if (result == null) {
+      result =
+          formattedMessage =
+              Messages.formatMessages("Unable to provision, see the following errors", messages);
+    }
+    return result;
   }
 
   private static final long serialVersionUID = 0;
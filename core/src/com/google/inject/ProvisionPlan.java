@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import java.util.List;
+
+/**
+ * Provisions instances of a fixed list of keys together. The bindings of the keys are looked up
+ * once, when the plan is {@linkplain Injector#getProvisionPlan created}, so a plan that is kept and
+ * reused is cheaper than getting each instance from the injector:
+ *
+ * <pre>{@code
+ * ProvisionPlan plan = injector.getProvisionPlan(ImmutableList.of(userKey, sessionKey));
+ * ...
+ * List<Object> instances = plan.provision();
+ * User user = (User) instances.get(0);
+ * }</pre>
+ *
+ * @since 7.1
+ */
+public interface ProvisionPlan {
+
+  /** Returns the keys that this plan provisions, in order. */
+  List<Key<?>> getKeys();
+
+  /**
+   * Provisions an instance of each key, and returns them in the order of {@link #getKeys}. The
+   * returned list can't be modified, and holds null for keys that were provisioned as null.
+   *
+   * @throws ProvisionException if there was a runtime failure while providing an instance.
+   */
+  List<Object> provision();
+}
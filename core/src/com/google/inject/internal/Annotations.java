@@ -16,6 +16,7 @@
 
 package com.google.inject.internal;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.common.base.Joiner;
@@ -24,6 +25,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.inject.BindingAnnotation;
@@ -39,10 +41,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 /**
  * Annotation utilities.
@@ -53,7 +58,51 @@ public class Annotations {
 
   /** Returns {@code true} if the given annotation type has no attributes. */
   public static boolean isMarker(Class<? extends Annotation> annotationType) {
-    return annotationType.getDeclaredMethods().length == 0;
+    return MEMBERS.get(annotationType).length == 0;
+  }
+
+  /** The members of each annotation type, ordered by name. */
+  private static final ClassValue<Method[]> MEMBERS =
+      new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> annotationType) {
+          Method[] members =
+              Arrays.stream(annotationType.getDeclaredMethods())
+                  .filter(m -> !m.isSynthetic() && !Modifier.isStatic(m.getModifiers()))
+                  .sorted(Comparator.comparing(Method::getName))
+                  .toArray(Method[]::new);
+          for (Method member : members) {
+            try {
+              member.setAccessible(true);
+            } catch (RuntimeException e) {
+              // Not accessible, memberValues will fall back to the annotation's own equality.
+            }
+          }
+          return members;
+        }
+      };
+
+  /**
+   * Returns the values of the annotation's members ordered by name, or null if they can't be read.
+   * Two annotations of the same type are equal if and only if their member values are {@link
+   * Arrays#deepEquals deeply equal}, which is much cheaper to check than calling the reflective
+   * {@code equals} of the JDK's implementation of annotations.
+   */
+  @Nullable
+  public static Object[] memberValues(Annotation annotation) {
+    if (annotation instanceof Named) {
+      return new Object[] {((Named) annotation).value()};
+    }
+    Method[] members = MEMBERS.get(annotation.annotationType());
+    Object[] values = new Object[members.length];
+    try {
+      for (int i = 0; i < members.length; i++) {
+        values[i] = members[i].invoke(annotation);
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+    return values;
   }
 
   public static boolean isAllDefaultMethods(Class<? extends Annotation> annotationType) {
@@ -175,10 +224,30 @@ public class Annotations {
     return retention != null && retention.value() == RetentionPolicy.RUNTIME;
   }
 
+  /** The scope annotations on each class, in declaration order. */
+  private static final ClassMetadataCache<ImmutableList<Class<? extends Annotation>>>
+      SCOPE_ANNOTATIONS =
+          ClassMetadataCache.create(
+              "Scope annotations",
+              type ->
+                  Arrays.stream(type.getAnnotations())
+                      .map(Annotation::annotationType)
+                      .filter(Annotations::isScopeAnnotation)
+                      .collect(toImmutableList()));
+
   /** Returns the scope annotation on {@code type}, or null if none is specified. */
   public static Class<? extends Annotation> findScopeAnnotation(
       Errors errors, Class<?> implementation) {
-    return findScopeAnnotation(errors, implementation.getAnnotations());
+    ImmutableList<Class<? extends Annotation>> scopeAnnotations =
+        SCOPE_ANNOTATIONS.get(implementation);
+    if (scopeAnnotations.isEmpty()) {
+      return null;
+    }
+    Class<? extends Annotation> found = scopeAnnotations.get(0);
+    for (int i = 1; i < scopeAnnotations.size(); i++) {
+      errors.duplicateScopeAnnotations(found, scopeAnnotations.get(i));
+    }
+    return found;
   }
 
   /** Returns the scoping annotation, or null if there isn't one. */
@@ -416,12 +485,18 @@ public class Annotations {
 
   /**
    * If the annotation is an instance of {@code jakarta.inject.Named}, canonicalizes to
-   * com.google.guice.name.Named. Returns the given annotation otherwise.
+   * com.google.guice.name.Named. Also replaces instances of com.google.guice.name.Named that were
+   * read reflectively (e.g. from an injection point), since the JDK's annotation implementation
+   * compares annotations reflectively, which is slow for a key that's looked up by name in a hash
+   * map. Returns the given annotation otherwise.
    */
   public static Annotation canonicalizeIfNamed(Annotation annotation) {
     if (annotation instanceof jakarta.inject.Named) {
       return Names.named(((jakarta.inject.Named) annotation).value());
     }
+    if (annotation instanceof Named && Proxy.isProxyClass(annotation.getClass())) {
+      return Names.named(((Named) annotation).value());
+    }
     return annotation;
   }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.ConfigurationException;
+import com.google.inject.spi.Message;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A JVM-wide cache of reflective metadata about classes, shared by all injectors.
+ *
+ * <p>The values hang off the classes themselves (see {@link ClassValue}), so they're released
+ * together with the classes and don't pin class loaders. Since the values are shared, they must be
+ * immutable and must only depend on the class they are computed for.
+ *
+ * <p>Each cache counts its hits and misses, which are logged at {@link Level#FINE} after each
+ * injector is created.
+ */
+public final class ClassMetadataCache<V> {
+
+  private static final Logger logger = Logger.getLogger(ClassMetadataCache.class.getName());
+
+  private static final List<ClassMetadataCache<?>> caches = new CopyOnWriteArrayList<>();
+
+  /** Creates a new cache that computes its values with {@code computeFunction}. */
+  public static <V> ClassMetadataCache<V> create(
+      String name, Function<Class<?>, V> computeFunction) {
+    ClassMetadataCache<V> cache = new ClassMetadataCache<>(name, computeFunction);
+    caches.add(cache);
+    return cache;
+  }
+
+  private final String name;
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final ClassValue<V> values;
+
+  private ClassMetadataCache(String name, Function<Class<?>, V> computeFunction) {
+    this.name = checkNotNull(name, "name");
+    checkNotNull(computeFunction, "computeFunction");
+    this.values =
+        new ClassValue<V>() {
+          @Override
+          protected V computeValue(Class<?> type) {
+            misses.increment();
+            return computeFunction.apply(type);
+          }
+        };
+  }
+
+  /** Returns the value for {@code type}, computing it if this is the first lookup. */
+  public V get(Class<?> type) {
+    lookups.increment();
+    return values.get(type);
+  }
+
+  /** Returns the number of lookups that found an already computed value. */
+  public long hitCount() {
+    return lookups.sum() - misses.sum();
+  }
+
+  /** Returns the number of lookups that computed a value. */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    long lookupCount = lookups.sum();
+    long hitCount = lookupCount - misses.sum();
+    return String.format(
+        Locale.ROOT,
+        "%s: %d lookups, %d hits (%.1f%%)",
+        name, lookupCount, hitCount, lookupCount == 0 ? 0.0 : 100.0 * hitCount / lookupCount);
+  }
+
+  /** Logs the hit rates of all caches, if enabled. */
+  static void logStatistics() {
+    if (logger.isLoggable(Level.FINE)) {
+      for (ClassMetadataCache<?> cache : caches) {
+        logger.fine(cache.toString());
+      }
+    }
+  }
+
+  /**
+   * The result of a computation that can fail with configuration errors. The errors are kept
+   * rather than the exception, so that each failed lookup throws a new exception.
+   */
+  public static final class Result<T> {
+    private final T value;
+    private final ImmutableList<Message> errors;
+
+    public Result(T value, Collection<Message> errors) {
+      this.value = value;
+      this.errors = ImmutableList.copyOf(errors);
+    }
+
+    /**
+     * Returns the value, or throws a {@link ConfigurationException} with the errors and the value
+     * as its partial value.
+     */
+    public T getOrThrow() {
+      if (!errors.isEmpty()) {
+        throw new ConfigurationException(errors).withPartialValue(value);
+      }
+      return value;
+    }
+  }
+}
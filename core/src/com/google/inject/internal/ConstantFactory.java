@@ -67,6 +67,11 @@ final class ConstantFactory<T> extends InternalFactory<T> {
     return instance;
   }
 
+  @Override
+  T getConstantValue() {
+    return instance;
+  }
+
   @Override
   public Provider<T> makeProvider(InjectorImpl injector, Dependency<?> dependency) {
     return InternalFactory.makeProviderFor(instance, this);
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+/**
+ * Counts the metadata that injectors drop once they're created, by category. See {@link
+ * InternalFlags.MetadataRetentionOption#RUNTIME_ONLY}.
+ */
+final class DroppedMetadata {
+
+  /** The kinds of metadata that are dropped. */
+  enum Category {
+    LOOKUPS("lookups"),
+    INJECTION_REQUESTS("injection requests"),
+    PRIVATE_ELEMENTS("private module elements"),
+    BINDING_INDEX("indexed types");
+
+    private final String description;
+
+    Category(String description) {
+      this.description = description;
+    }
+  }
+
+  private final int[] counts = new int[Category.values().length];
+
+  void add(Category category, int count) {
+    counts[category.ordinal()] += count;
+  }
+
+  int getCount(Category category) {
+    return counts[category.ordinal()];
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (Category category : Category.values()) {
+      if (builder.length() > 0) {
+        builder.append(", ");
+      }
+      builder.append(counts[category.ordinal()]).append(' ').append(category.description);
+    }
+    return builder.toString();
+  }
+}
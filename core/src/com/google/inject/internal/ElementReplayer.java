@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.internal.GuiceInternal.GUICE_INTERNAL;
+import static com.google.inject.spi.Elements.withTrustedSource;
+
+import com.google.inject.Binder;
+import com.google.inject.Key;
+import com.google.inject.PrivateBinder;
+import com.google.inject.internal.InternalProviderInstanceBindingImpl.Factory;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderLookup;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Applies elements that are reused by several injectors to the binder of one of them.
+ *
+ * <p>Applying an element usually just records it again, but the factories of provider methods and
+ * multibinders hold state that belongs to the injector they're bound to. They're copied, so that
+ * each injector binds its own. Factories sharing state share its copy, which is why a replayer
+ * must be used for a single injector.
+ *
+ * <p>Elements that tie user objects to an injector can't be reused, see {@link
+ * #findNonReplayable}.
+ */
+public final class ElementReplayer {
+
+  private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+  /**
+   * Returns the first of {@code elements}, including the elements of private modules, that can't
+   * be replayed into several injectors, or null if they all can. These are:
+   *
+   * <ul>
+   *   <li>Instances and providers with members to inject, since each injector would inject them.
+   *   <li>Providers other than those of provider methods and multibinders, since they may be
+   *       initialized by the injector they're bound to.
+   *   <li>Injection requests, since each injector would inject the instance.
+   *   <li>Provider and members injector lookups, since the modules were handed the provider or
+   *       members injector of a single injector.
+   * </ul>
+   */
+  @Nullable
+  public static Element findNonReplayable(Iterable<? extends Element> elements) {
+    for (Element element : elements) {
+      if (element instanceof PrivateElements) {
+        Element nonReplayable = findNonReplayable(((PrivateElements) element).getElements());
+        if (nonReplayable != null) {
+          return nonReplayable;
+        }
+      } else if (!isReplayable(element)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isReplayable(Element element) {
+    if (element instanceof InstanceBinding) {
+      return ((InstanceBinding<?>) element).getInjectionPoints().isEmpty();
+    } else if (element instanceof ProviderInstanceBinding) {
+      Object provider = ((ProviderInstanceBinding<?>) element).getUserSuppliedProvider();
+      return element instanceof ProviderInstanceBindingImpl
+          && provider instanceof Factory
+          && ((Factory<?>) provider).isCopyable();
+    }
+    return !(element instanceof InjectionRequest
+        || element instanceof ProviderLookup
+        || element instanceof MembersInjectorLookup);
+  }
+
+  /**
+   * Applies {@code element} to {@code binder}. The element must be replayable, see {@link
+   * #findNonReplayable}.
+   */
+  public void replay(Element element, Binder binder) {
+    if (element instanceof ProviderInstanceBinding) {
+      replay((ProviderInstanceBinding<?>) element, binder);
+    } else if (element instanceof PrivateElements) {
+      replay((PrivateElements) element, binder);
+    } else {
+      element.applyTo(binder);
+    }
+  }
+
+  private <T> void replay(ProviderInstanceBinding<T> binding, Binder binder) {
+    @SuppressWarnings("unchecked") // the factory of a Binding<T> provides Ts
+    Factory<T> copy = ((Factory<T>) binding.getUserSuppliedProvider()).copy(copies);
+    ((ProviderInstanceBindingImpl<T>) binding)
+        .getScoping()
+        .applyTo(
+            withTrustedSource(GUICE_INTERNAL, binder, binding.getSource())
+                .bind(binding.getKey())
+                .toProvider(copy));
+  }
+
+  private void replay(PrivateElements privateElements, Binder binder) {
+    PrivateBinder privateBinder = binder.withSource(privateElements.getSource()).newPrivateBinder();
+    for (Element element : privateElements.getElements()) {
+      replay(element, privateBinder);
+    }
+    for (Key<?> key : privateElements.getExposedKeys()) {
+      privateBinder.withSource(privateElements.getExposedSource(key)).expose(key);
+    }
+  }
+}
@@ -64,6 +64,12 @@ final class ExposedKeyFactory<T> extends InternalFactory<T> implements CreationL
     }
   }
 
+  @Override
+  T getConstantValue() {
+    var delegate = this.delegate;
+    return delegate == null ? null : delegate.getConstantValue();
+  }
+
   @Override
   MethodHandleResult makeHandle(LinkageContext context, boolean linked) {
     return makeCachableOnLinkedSetting(
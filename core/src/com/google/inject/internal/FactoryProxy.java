@@ -18,6 +18,7 @@ package com.google.inject.internal;
 
 import com.google.common.base.MoreObjects;
 import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.internal.InjectorImpl.JitLimitation;
 import com.google.inject.spi.Dependency;
 
@@ -62,8 +63,27 @@ final class FactoryProxy<T> extends InternalFactory<T> implements CreationListen
     }
   }
 
+  @Override
+  T getConstantValue() {
+    var targetFactory = this.targetFactory;
+    return targetFactory == null ? null : targetFactory.getConstantValue();
+  }
+
+  @Override
+  public Provider<T> makeProvider(InjectorImpl injector, Dependency<?> dependency) {
+    T value = getConstantValue();
+    if (value != null) {
+      return InternalFactory.makeProviderFor(value, this);
+    }
+    return super.makeProvider(injector, dependency);
+  }
+
   @Override
   MethodHandleResult makeHandle(LinkageContext context, boolean linked) {
+    T value = getConstantValue();
+    if (value != null) {
+      return makeCachable(InternalMethodHandles.constantFactoryGetHandle(value));
+    }
     return makeCachable(
         InternalMethodHandles.catchInternalProvisionExceptionAndRethrowWithSource(
             targetFactory.getHandle(context, /* linked= */ true), targetKey));
@@ -8,6 +8,7 @@ import com.google.inject.spi.ErrorDetail;
 import java.io.Serializable;
 import java.util.Formatter;
 import java.util.List;
+import java.util.function.Supplier;
 
 /** Generic error message representing a Guice internal error. */
 public final class GenericErrorDetail extends InternalErrorDetail<GenericErrorDetail>
@@ -17,6 +18,12 @@ public final class GenericErrorDetail extends InternalErrorDetail<GenericErrorDe
     super(errorId, checkNotNull(message, "message"), sources, cause);
   }
 
+  /** Creates an error whose message is computed by {@code messageSupplier} when it's needed. */
+  public GenericErrorDetail(
+      ErrorId errorId, Supplier<String> messageSupplier, List<Object> sources, Throwable cause) {
+    super(errorId, checkNotNull(messageSupplier, "messageSupplier"), sources, cause);
+  }
+
   @Override
   public void formatDetail(List<ErrorDetail<?>> mergeableErrors, Formatter formatter) {
     Preconditions.checkArgument(mergeableErrors.isEmpty(), "Unexpected mergeable errors");
@@ -29,6 +36,6 @@ public final class GenericErrorDetail extends InternalErrorDetail<GenericErrorDe
 
   @Override
   public GenericErrorDetail withSources(List<Object> newSources) {
-    return new GenericErrorDetail(errorId, getMessage(), newSources, getCause());
+    return new GenericErrorDetail(errorId, this::getMessage, newSources, getCause());
   }
 }
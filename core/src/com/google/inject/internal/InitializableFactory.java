@@ -41,12 +41,27 @@ final class InitializableFactory<T> extends InternalFactory<T> {
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    var value = this.value;
+    if (value != null) {
+      return value;
+    }
     // NOTE: we do not need to check nullishness here because Initializables never contain nulls.
-    return initializable.get(context);
+    value = initializable.get(context);
+    this.value = value;
+    return value;
+  }
+
+  @Override
+  T getConstantValue() {
+    return value;
   }
 
   @Override
   MethodHandleResult makeHandle(LinkageContext context, boolean linked) {
+    var value = this.value;
+    if (value != null) {
+      return makeCachable(InternalMethodHandles.constantFactoryGetHandle(value));
+    }
     return makeCachable(InternalMethodHandles.initializableFactoryGetHandle(initializable));
   }
 
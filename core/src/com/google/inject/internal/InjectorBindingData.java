@@ -23,6 +23,7 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.inject.Binding;
 import com.google.inject.Key;
 import com.google.inject.Scope;
@@ -44,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A container that stores an injector's binding data. This excludes JIT binding data, which is
@@ -55,27 +57,37 @@ class InjectorBindingData {
 
   // The parent injector's InjectorBindingData, if the parent injector exists.
   private final Optional<InjectorBindingData> parent;
+  // The InjectorBindingData of the root injector, which may be this one.
+  private final InjectorBindingData root;
 
   // Must be a linked hashmap in order to preserve order of bindings in Modules.
   private final Map<Key<?>, Binding<?>> explicitBindingsMutable = Maps.newLinkedHashMap();
   private final Map<Key<?>, Binding<?>> explicitBindings =
       Collections.unmodifiableMap(explicitBindingsMutable);
   private final Map<Class<? extends Annotation>, ScopeBinding> scopes = Maps.newHashMap();
-  private final Set<ProviderLookup<?>> providerLookups = Sets.newLinkedHashSet();
-  private final Set<StaticInjectionRequest> staticInjectionRequests = Sets.newLinkedHashSet();
-  private final Set<MembersInjectorLookup<?>> membersInjectorLookups = Sets.newLinkedHashSet();
-  private final Set<InjectionRequest<?>> injectionRequests = Sets.newLinkedHashSet();
+  private Set<ProviderLookup<?>> providerLookups = Sets.newLinkedHashSet();
+  private Set<StaticInjectionRequest> staticInjectionRequests = Sets.newLinkedHashSet();
+  private Set<MembersInjectorLookup<?>> membersInjectorLookups = Sets.newLinkedHashSet();
+  private Set<InjectionRequest<?>> injectionRequests = Sets.newLinkedHashSet();
   private final List<TypeConverterBinding> converters = Lists.newArrayList();
+  // The converters matching each type that was converted to, see getMatchingConverters.
+  private final Map<TypeLiteral<?>, ImmutableList<TypeConverterBinding>> convertersByType =
+      new ConcurrentHashMap<>();
   private final List<InterceptorBinding> interceptorBindings = Lists.newArrayList();
   private final List<TypeListenerBinding> typeListenerBindings = Lists.newArrayList();
   private final List<ProvisionListenerBinding> provisionListenerBindings = Lists.newArrayList();
   private final List<ModuleAnnotatedMethodScannerBinding> scannerBindings = Lists.newArrayList();
-  // The injector's explicit bindings, indexed by the binding's type.
-  private final ListMultimap<TypeLiteral<?>, Binding<?>> indexedExplicitBindings =
-      ArrayListMultimap.create();
+  // The injector's explicit bindings, indexed by the binding's type. Null until the explicit
+  // bindings are finalized, or after it was dropped to save memory.
+  @LazyInit private volatile ListMultimap<TypeLiteral<?>, Binding<?>> indexedExplicitBindings;
+
+  // The binding data this injector passes on to its children. Lazily created when a child first
+  // needs it, at which point this injector's own binding data no longer changes.
+  @LazyInit private volatile InheritedData inheritedData;
 
   InjectorBindingData(Optional<InjectorBindingData> parent) {
     this.parent = parent;
+    this.root = parent.isPresent() ? parent.get().root : this;
   }
 
   public Optional<InjectorBindingData> parent() {
@@ -86,7 +98,12 @@ class InjectorBindingData {
   public <T> BindingImpl<T> getExplicitBinding(Key<T> key) {
     Binding<?> binding = explicitBindings.get(key);
     if (binding == null && parent.isPresent()) {
-      return parent.get().getExplicitBinding(key);
+      // Rather than walking up the parent chain, look in the flattened bindings of all ancestors
+      // but the root, and then in the root itself, so lookups don't depend on the depth.
+      binding = parent.get().getInheritedData().explicitBindings.get(key);
+      if (binding == null) {
+        binding = root.explicitBindings.get(key);
+      }
     }
     return (BindingImpl<T>) binding;
   }
@@ -134,7 +151,7 @@ class InjectorBindingData {
   public ScopeBinding getScopeBinding(Class<? extends Annotation> annotationType) {
     ScopeBinding scopeBinding = scopes.get(annotationType);
     if (scopeBinding == null && parent.isPresent()) {
-      return parent.get().getScopeBinding(annotationType);
+      return parent.get().getInheritedData().scopes.get(annotationType);
     }
     return scopeBinding;
   }
@@ -158,19 +175,36 @@ class InjectorBindingData {
   public TypeConverterBinding getConverter(
       String stringValue, TypeLiteral<?> type, Errors errors, Object source) {
     TypeConverterBinding matchingConverter = null;
-    InjectorBindingData b = this;
-    while (b != null) {
-      for (TypeConverterBinding converter : b.getConvertersThisLevel()) {
+    for (TypeConverterBinding converter : getMatchingConverters(type)) {
+      if (matchingConverter != null) {
+        errors.ambiguousTypeConversion(stringValue, source, type, matchingConverter, converter);
+      }
+      matchingConverter = converter;
+    }
+    return matchingConverter;
+  }
+
+  /**
+   * Returns the converters of this injector and its ancestors that match the type, closest ones
+   * first. The matchers are only evaluated once per type, since converters are all registered
+   * before any constant gets converted and an injector's children can reuse its results.
+   */
+  private ImmutableList<TypeConverterBinding> getMatchingConverters(TypeLiteral<?> type) {
+    ImmutableList<TypeConverterBinding> matching = convertersByType.get(type);
+    if (matching == null) {
+      ImmutableList.Builder<TypeConverterBinding> builder = ImmutableList.builder();
+      for (TypeConverterBinding converter : converters) {
         if (converter.getTypeMatcher().matches(type)) {
-          if (matchingConverter != null) {
-            errors.ambiguousTypeConversion(stringValue, source, type, matchingConverter, converter);
-          }
-          matchingConverter = converter;
+          builder.add(converter);
         }
       }
-      b = b.parent().orElse(null);
+      if (parent.isPresent()) {
+        builder.addAll(parent.get().getMatchingConverters(type));
+      }
+      matching = builder.build();
+      convertersByType.putIfAbsent(type, matching);
     }
-    return matchingConverter;
+    return matching;
   }
 
   public void addInterceptorBinding(InterceptorBinding interceptorBinding) {
@@ -180,7 +214,7 @@ class InjectorBindingData {
   public ImmutableList<InterceptorBinding> getInterceptorBindings() {
     if (parent.isPresent()) {
       return new ImmutableList.Builder<InterceptorBinding>()
-          .addAll(parent.get().getInterceptorBindings())
+          .addAll(parent.get().getInheritedData().interceptorBindings)
           .addAll(interceptorBindings)
           .build();
     }
@@ -198,7 +232,7 @@ class InjectorBindingData {
   public ImmutableList<TypeListenerBinding> getTypeListenerBindings() {
     if (parent.isPresent()) {
       return new ImmutableList.Builder<TypeListenerBinding>()
-          .addAll(parent.get().getTypeListenerBindings())
+          .addAll(parent.get().getInheritedData().typeListenerBindings)
           .addAll(typeListenerBindings)
           .build();
     }
@@ -216,7 +250,7 @@ class InjectorBindingData {
   public ImmutableList<ProvisionListenerBinding> getProvisionListenerBindings() {
     if (parent.isPresent()) {
       return new ImmutableList.Builder<ProvisionListenerBinding>()
-          .addAll(parent.get().getProvisionListenerBindings())
+          .addAll(parent.get().getInheritedData().provisionListenerBindings)
           .addAll(provisionListenerBindings)
           .build();
     }
@@ -234,7 +268,7 @@ class InjectorBindingData {
   public ImmutableList<ModuleAnnotatedMethodScannerBinding> getScannerBindings() {
     if (parent.isPresent()) {
       return new ImmutableList.Builder<ModuleAnnotatedMethodScannerBinding>()
-          .addAll(parent.get().getScannerBindings())
+          .addAll(parent.get().getInheritedData().scannerBindings)
           .addAll(scannerBindings)
           .build();
     }
@@ -258,12 +292,93 @@ class InjectorBindingData {
    * explicit bindings by their return type.
    */
   void indexBindingsByType() {
+    ListMultimap<TypeLiteral<?>, Binding<?>> index = ArrayListMultimap.create();
     for (Binding<?> binding : getExplicitBindingsThisLevel().values()) {
-      indexedExplicitBindings.put(binding.getKey().getTypeLiteral(), binding);
+      index.put(binding.getKey().getTypeLiteral(), binding);
     }
+    indexedExplicitBindings = index;
   }
 
   public ListMultimap<TypeLiteral<?>, Binding<?>> getIndexedExplicitBindings() {
-    return indexedExplicitBindings;
+    ListMultimap<TypeLiteral<?>, Binding<?>> index = indexedExplicitBindings;
+    if (index == null) {
+      // Rebuilding the dropped index yields the same result, whichever thread wins.
+      indexBindingsByType();
+      index = indexedExplicitBindings;
+    }
+    return index;
+  }
+
+  /**
+   * Drops the data that's only needed to introspect the injector once it is created, adding it to
+   * {@code dropped}. See {@link InternalFlags.MetadataRetentionOption#RUNTIME_ONLY}.
+   */
+  void dropIntrospectionMetadata(DroppedMetadata dropped) {
+    dropped.add(DroppedMetadata.Category.LOOKUPS, providerLookups.size());
+    dropped.add(DroppedMetadata.Category.LOOKUPS, membersInjectorLookups.size());
+    dropped.add(DroppedMetadata.Category.INJECTION_REQUESTS, staticInjectionRequests.size());
+    dropped.add(DroppedMetadata.Category.INJECTION_REQUESTS, injectionRequests.size());
+    ListMultimap<TypeLiteral<?>, Binding<?>> index = indexedExplicitBindings;
+    if (index != null) {
+      dropped.add(DroppedMetadata.Category.BINDING_INDEX, index.keySet().size());
+    }
+    // Replace rather than clear the sets, clearing doesn't shrink them.
+    providerLookups = Sets.newLinkedHashSet();
+    staticInjectionRequests = Sets.newLinkedHashSet();
+    membersInjectorLookups = Sets.newLinkedHashSet();
+    injectionRequests = Sets.newLinkedHashSet();
+    // Only used by findBindingsByType, which rebuilds it on demand.
+    indexedExplicitBindings = null;
+  }
+
+  private InheritedData getInheritedData() {
+    InheritedData local = inheritedData;
+    if (local == null) {
+      // Racing threads compute equal data, so it doesn't matter which one wins.
+      local = new InheritedData(this);
+      inheritedData = local;
+    }
+    return local;
+  }
+
+  /**
+   * The binding data of an injector merged with that of its ancestors. Children only get created
+   * once their parent's bindings are processed, so this can be computed once per parent rather
+   * than walking or concatenating the whole parent chain on each lookup.
+   */
+  private static final class InheritedData {
+    // The explicit bindings of the injector and its ancestors, excluding the root injector. The
+    // root is typically much larger than the rest of the hierarchy, so it's searched separately
+    // rather than copied into each level.
+    final Map<Key<?>, Binding<?>> explicitBindings;
+    final Map<Class<? extends Annotation>, ScopeBinding> scopes;
+    final ImmutableList<InterceptorBinding> interceptorBindings;
+    final ImmutableList<TypeListenerBinding> typeListenerBindings;
+    final ImmutableList<ProvisionListenerBinding> provisionListenerBindings;
+    final ImmutableList<ModuleAnnotatedMethodScannerBinding> scannerBindings;
+
+    InheritedData(InjectorBindingData data) {
+      if (!data.parent.isPresent()) {
+        this.explicitBindings = ImmutableMap.of();
+        this.scopes = ImmutableMap.copyOf(data.scopes);
+      } else {
+        InheritedData parentData = data.parent.get().getInheritedData();
+        if (parentData.explicitBindings.isEmpty()) {
+          this.explicitBindings = data.explicitBindings;
+        } else {
+          // Injector, Stage and Logger are bound at every level, the closest binding wins.
+          Map<Key<?>, Binding<?>> explicitBindings = Maps.newHashMap(parentData.explicitBindings);
+          explicitBindings.putAll(data.explicitBindings);
+          this.explicitBindings = Collections.unmodifiableMap(explicitBindings);
+        }
+        Map<Class<? extends Annotation>, ScopeBinding> scopes = Maps.newHashMap(parentData.scopes);
+        scopes.putAll(data.scopes);
+        this.scopes = Collections.unmodifiableMap(scopes);
+      }
+      this.interceptorBindings = data.getInterceptorBindings();
+      this.typeListenerBindings = data.getTypeListenerBindings();
+      this.provisionListenerBindings = data.getProvisionListenerBindings();
+      this.scannerBindings = data.getScannerBindings();
+    }
   }
 }
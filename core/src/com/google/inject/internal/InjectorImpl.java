@@ -37,6 +37,7 @@ import com.google.inject.MembersInjector;
 import com.google.inject.Module;
 import com.google.inject.ProvidedBy;
 import com.google.inject.Provider;
+import com.google.inject.ProvisionPlan;
 import com.google.inject.Scope;
 import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
@@ -55,10 +56,13 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -179,14 +183,9 @@ final class InjectorImpl implements Injector, Lookups {
     if (explicitBinding != null) {
       return explicitBinding;
     }
-    synchronized (jitBindingData.lock()) {
-      // See if any jit bindings have been created for this key.
-      for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
-        var jitBinding = injector.jitBindingData.getJitBinding(key);
-        if (jitBinding != null) {
-          return jitBinding;
-        }
-      }
+    var jitBinding = getExistingJitBinding(key);
+    if (jitBinding != null) {
+      return jitBinding;
     }
 
     // If Key is a Provider, we have to see if the type it is providing exists,
@@ -209,6 +208,39 @@ final class InjectorImpl implements Injector, Lookups {
     return null;
   }
 
+  @Override
+  public <T> Optional<Provider<T>> findProvider(Key<T> key) {
+    // Like getExistingBinding, but without creating errors for missing or raw provider keys.
+    BindingImpl<T> binding = bindingData.getExplicitBinding(checkNotNull(key, "key"));
+    if (binding == null) {
+      binding = getExistingJitBinding(key);
+    }
+    if (binding != null) {
+      return Optional.of(binding.getProvider());
+    }
+    Type type = key.getTypeLiteral().getType();
+    if (isProvider(key) && type instanceof ParameterizedType) {
+      Type providedType = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (findProvider(key.ofType(providedType)).isPresent()) {
+        return Optional.of(getProvider(key));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Returns the just-in-time binding for {@code key} if it was already created, or null. */
+  private <T> BindingImpl<T> getExistingJitBinding(Key<T> key) {
+    synchronized (jitBindingData.lock()) {
+      for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
+        var jitBinding = injector.jitBindingData.getJitBinding(key);
+        if (jitBinding != null) {
+          return jitBinding;
+        }
+      }
+    }
+    return null;
+  }
+
   /**
    * Gets a binding implementation. First, it check to see if the parent has a binding. If the
    * parent has a binding and the binding is scoped, it will use that binding. Otherwise, this
@@ -397,6 +429,11 @@ final class InjectorImpl implements Injector, Lookups {
           return providedBinding.getProvider();
         }
 
+        @Override
+        Provider<T> getConstantValue() {
+          return providedBinding.getProvider();
+        }
+
         @Override
         public Provider<Provider<T>> makeProvider(InjectorImpl injector, Dependency<?> dependency) {
           return InternalFactory.makeProviderFor(providedBinding.getProvider(), this);
@@ -715,6 +752,21 @@ final class InjectorImpl implements Injector, Lookups {
     }
   }
 
+  /** The {@code @ImplementedBy} and {@code @ProvidedBy} annotations of a class. */
+  private static final class JitAnnotations {
+    static final ClassMetadataCache<JitAnnotations> CACHE =
+        ClassMetadataCache.create(
+            "@ImplementedBy and @ProvidedBy annotations", JitAnnotations::new);
+
+    @Nullable final ImplementedBy implementedBy;
+    @Nullable final ProvidedBy providedBy;
+
+    JitAnnotations(Class<?> type) {
+      this.implementedBy = type.getAnnotation(ImplementedBy.class);
+      this.providedBy = type.getAnnotation(ProvidedBy.class);
+    }
+  }
+
   /**
    * Creates a binding for an injectable type with the given scope. Looks for a scope on the type if
    * none is specified.
@@ -729,7 +781,8 @@ final class InjectorImpl implements Injector, Lookups {
       throws ErrorsException {
     Class<?> rawType = key.getTypeLiteral().getRawType();
 
-    ImplementedBy implementedBy = rawType.getAnnotation(ImplementedBy.class);
+    JitAnnotations jitAnnotations = JitAnnotations.CACHE.get(rawType);
+    ImplementedBy implementedBy = jitAnnotations.implementedBy;
 
     // Don't try to inject arrays or enums annotated with @ImplementedBy.
     if (rawType.isArray() || (rawType.isEnum() && implementedBy != null)) {
@@ -752,7 +805,7 @@ final class InjectorImpl implements Injector, Lookups {
     }
 
     // Handle @ProvidedBy.
-    ProvidedBy providedBy = rawType.getAnnotation(ProvidedBy.class);
+    ProvidedBy providedBy = jitAnnotations.providedBy;
     if (providedBy != null) {
       Annotations.checkForMisplacedScopeAnnotations(rawType, source, errors);
       return createProvidedByBinding(key, scoping, providedBy, errors);
@@ -1169,6 +1222,38 @@ final class InjectorImpl implements Injector, Lookups {
     }
   }
 
+  @Override
+  public ProvisionPlan getProvisionPlan(List<? extends Key<?>> keys) {
+    ImmutableList<Key<?>> planKeys = ImmutableList.copyOf(keys);
+    List<Dependency<?>> dependencies = new ArrayList<>(planKeys.size());
+    for (Key<?> key : planKeys) {
+      dependencies.add(Dependency.get(key));
+    }
+    Errors errors = new Errors();
+    try {
+      return new ProvisionPlanImpl(this, planKeys, getParametersInjectors(dependencies, errors));
+    } catch (ErrorsException e) {
+      throw new ConfigurationException(errors.merge(e.getErrors()).getMessages());
+    }
+  }
+
+  @Override
+  public List<Object> getInstances(List<? extends Key<?>> keys) {
+    // Building a plan only pays off if it's reused, so use the providers cached by the bindings,
+    // but enter the context once for all of them.
+    Provider<?>[] providers = new Provider<?>[keys.size()];
+    for (int i = 0; i < providers.length; i++) {
+      providers[i] = getProvider(keys.get(i));
+    }
+    Object[] instances = new Object[providers.length];
+    try (InternalContext context = enterContext()) {
+      for (int i = 0; i < providers.length; i++) {
+        instances[i] = providers[i].get();
+      }
+    }
+    return Collections.unmodifiableList(Arrays.asList(instances));
+  }
+
   // A special implementation for BindingImpl to break a recursive dependency with getProvider so
   // that getProvider can leverage the cache inside BindingImpl
   <T> Provider<T> getProviderForBindingImpl(Key<T> key) {
@@ -48,6 +48,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * InjectorShell is used by {@link InternalInjectorCreator} to recursively create a tree of
@@ -68,16 +69,25 @@ final class InjectorShell {
 
   private final List<Element> elements;
   private final InjectorImpl injector;
+  @Nullable private final PrivateElementsImpl privateElements;
 
-  private InjectorShell(List<Element> elements, InjectorImpl injector) {
+  private InjectorShell(
+      List<Element> elements, InjectorImpl injector, PrivateElementsImpl privateElements) {
     this.elements = elements;
     this.injector = injector;
+    this.privateElements = privateElements;
   }
 
   InjectorImpl getInjector() {
     return injector;
   }
 
+  /** Returns the private module this shell was built from, or null for the primary injector. */
+  @Nullable
+  PrivateElementsImpl getPrivateElements() {
+    return privateElements;
+  }
+
   List<Element> getElements() {
     return elements;
   }
@@ -228,7 +238,7 @@ final class InjectorShell {
       stopwatch.resetAndLog("Module annotated method scanners creation");
 
       List<InjectorShell> injectorShells = Lists.newArrayList();
-      injectorShells.add(new InjectorShell(elements, injector));
+      injectorShells.add(new InjectorShell(elements, injector, privateElements));
 
       // recursively build child shells
       PrivateElementProcessor processor = new PrivateElementProcessor(errors);
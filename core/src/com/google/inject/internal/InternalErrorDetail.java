@@ -5,6 +5,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.inject.spi.ErrorDetail;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Represents an error created by Guice as opposed to custom error added to the binder from
@@ -42,6 +43,12 @@ abstract class InternalErrorDetail<T extends ErrorDetail<T>> extends ErrorDetail
     this.errorId = errorId;
   }
 
+  protected InternalErrorDetail(
+      ErrorId errorId, Supplier<String> messageSupplier, List<Object> sources, Throwable cause) {
+    super(messageSupplier, sources, cause);
+    this.errorId = errorId;
+  }
+
   @Override
   protected final Optional<String> getLearnMoreLink() {
     if (DOCUMENTED_ERRORS.contains(errorId)) {
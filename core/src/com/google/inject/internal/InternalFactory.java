@@ -19,6 +19,7 @@ package com.google.inject.internal;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Provider;
 import com.google.inject.spi.Dependency;
 import java.lang.invoke.MethodHandle;
@@ -48,6 +49,18 @@ abstract class InternalFactory<T> {
   abstract T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException;
 
+  /**
+   * Returns the value that every subsequent call to {@link #get} will return, or {@code null} if
+   * that value is not known (yet).
+   *
+   * <p>Dependents may use this to cache the value and skip calling into the factory. Null values
+   * are never reported since they need to be checked against each dependency.
+   */
+  @Nullable
+  T getConstantValue() {
+    return null;
+  }
+
   /** Returns a provider for the object to be injected. */
   Provider<T> makeProvider(InjectorImpl injector, Dependency<?> dependency) {
     return makeDefaultProvider(this, injector, dependency);
@@ -82,6 +95,13 @@ abstract class InternalFactory<T> {
     return HandleCache.getHandleAndMaybeUpdateCache(this, linked, result);
   }
 
+  /** Returns the cached handle for the {@code linked} setting, or {@code null} if none. */
+  @VisibleForTesting
+  @Nullable
+  final MethodHandle getCachedHandle(boolean linked) {
+    return handleCache.getHandle(linked);
+  }
+
   /**
    * Produce the method handle for the object to be injected.
    *
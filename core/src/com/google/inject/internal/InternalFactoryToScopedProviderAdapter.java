@@ -151,6 +151,15 @@ class InternalFactoryToScopedProviderAdapter<T> extends InternalFactory<T> {
       return t;
     }
 
+    @Override
+    T getConstantValue() {
+      Object value = this.value;
+      // safe because we only store values of T or UNINITIALIZED_VALUE
+      @SuppressWarnings("unchecked")
+      T typedValue = value == UNINITIALIZED_VALUE ? null : (T) value;
+      return typedValue;
+    }
+
     @Override
     MethodHandleResult makeHandle(LinkageContext context, boolean linked) {
       // If it is somehow already initialized, we can return a constant handle.
@@ -161,7 +170,7 @@ class InternalFactoryToScopedProviderAdapter<T> extends InternalFactory<T> {
       // Otherwise we bind to a callsite that will patch itself once it is initialized.
       var result = super.makeHandle(context, linked);
       checkState(result.cachability == MethodHandleResult.Cachability.ALWAYS);
-      return makeCachable(new SingletonCallSite(result.methodHandle, source).dynamicInvoker());
+      return makeCachable(new SingletonCallSite(this, result.methodHandle).dynamicInvoker());
     }
 
     private static MethodHandle getHandleForConstant(Object source, Object value) {
@@ -186,11 +195,11 @@ class InternalFactoryToScopedProviderAdapter<T> extends InternalFactory<T> {
               "boostrapCallSite",
               methodType(Object.class, Object.class, InternalContext.class, Dependency.class));
 
-      private final Object source;
+      private final ForSingletonScope<?> factory;
 
-      SingletonCallSite(MethodHandle actualGetHandle, Object source) {
+      SingletonCallSite(ForSingletonScope<?> factory, MethodHandle actualGetHandle) {
         super(actualGetHandle.type());
-        this.source = source;
+        this.factory = factory;
         // Invoke the 'actual' handle and then pass the result to the `boostrapCallSite` method.
         // This will allow us to eventually 'fold' the result into the callsite.
         // (InternalContext, InternalContext) -> Object
@@ -203,7 +212,10 @@ class InternalFactoryToScopedProviderAdapter<T> extends InternalFactory<T> {
       Object boostrapCallSite(Object result, InternalContext context, Dependency<?> dependency) {
         // Don't cache circular, proxies.
         if (!context.areCircularProxiesEnabled() || !BytecodeGen.isCircularProxy(result)) {
-          setTarget(getHandleForConstant(source, result));
+          // Publish the value to the factory as well so the reflective paths and the
+          // constant value caches of dependents can observe it.
+          factory.value = result;
+          setTarget(getHandleForConstant(factory.source, result));
           // This ensures that other threads will see the new target.  This isn't strictly necessary
           // since the underlying provider is both ThreadSafe and idempotent, but it should improve
           // performance by giving the JIT and easy optimization opportunity.
@@ -47,12 +47,78 @@ public final class InternalFlags {
   private static final UseMethodHandlesOption USE_METHOD_HANDLES =
       getSystemOption("guice_use_method_handles", UseMethodHandlesOption.NO);
 
+  private static final ParallelModuleRecordingOption PARALLEL_MODULE_RECORDING =
+      getSystemOption("guice_parallel_module_recording", ParallelModuleRecordingOption.OFF);
+
+  private static final MetadataRetentionOption METADATA_RETENTION =
+      getSystemOption("guice_metadata_retention", MetadataRetentionOption.FULL);
+
+  private static final EagerMethodHandleLinkingOption EAGER_METHOD_HANDLE_LINKING =
+      getSystemOption("guice_eager_method_handle_linking", EagerMethodHandleLinkingOption.OFF);
+
   /** The options for using `MethodHandles`. */
   public enum UseMethodHandlesOption {
     NO,
     YES,
   }
 
+  /** The options for recording the elements of top-level modules. */
+  public enum ParallelModuleRecordingOption {
+    /** Top-level modules are configured one after another on the calling thread. (Default) */
+    OFF,
+    /**
+     * Top-level modules are configured concurrently, each into its own list of elements, and the
+     * lists are merged in installation order. The result is the same as when recording serially,
+     * but the {@code configure} methods of distinct top-level modules may run at the same time, and
+     * a module installed by several top-level modules is configured by each of them. Only the
+     * elements of its first installation are kept.
+     *
+     * <p>Modules are configured on Guice's own daemon threads, at most one per processor, so:
+     *
+     * <ul>
+     *   <li>Thread-local state of the thread creating the injector isn't visible to the modules.
+     *   <li>The context class loader of the thread creating the injector is set while each module
+     *       is configured, and restored afterwards.
+     *   <li>A {@code configure} method that blocks holds one of the threads, delaying the modules
+     *       of other injectors created at the same time. It must not wait on another top-level
+     *       module being configured.
+     * </ul>
+     *
+     * Modules configured on these threads that create injectors record their own modules serially.
+     */
+    ON,
+  }
+
+  /** What injectors retain of the metadata that's only needed to introspect them. */
+  public enum MetadataRetentionOption {
+    /** Everything is retained for the lifetime of the injector. (Default) */
+    FULL,
+    /**
+     * Once an injector is created, it drops metadata that isn't needed to provision instances.
+     * {@code Injector.getElements()} no longer returns provider lookups, members injector lookups
+     * and injection requests, and the elements of private modules are no longer available from
+     * {@code PrivateElements.getElements()}. Bindings, including their sources for error messages,
+     * are retained.
+     */
+    RUNTIME_ONLY,
+  }
+
+  /**
+   * When to link the method handles of explicit bindings. Only used when method handles are
+   * enabled.
+   */
+  public enum EagerMethodHandleLinkingOption {
+    /** Handles are linked the first time each binding is provisioned. (Default) */
+    OFF,
+    /**
+     * Injectors created in {@code Stage.PRODUCTION} link the handles of all of their explicit
+     * bindings once singletons are preloaded, so that singleton dependencies are folded into
+     * constants. This makes injector creation slower and retains a handle tree for every explicit
+     * binding, including the ones that are never provisioned.
+     */
+    ON,
+  }
+
   /** The options for Guice stack trace collection. */
   public enum IncludeStackTraceOption {
     /** No stack trace collection */
@@ -176,6 +242,19 @@ public final class InternalFlags {
         && isBytecodeGenEnabled();
   }
 
+  public static boolean isParallelModuleRecordingEnabled() {
+    return PARALLEL_MODULE_RECORDING == ParallelModuleRecordingOption.ON;
+  }
+
+  public static boolean isEagerMethodHandleLinkingEnabled() {
+    return EAGER_METHOD_HANDLE_LINKING == EagerMethodHandleLinkingOption.ON
+        && getUseMethodHandlesOption();
+  }
+
+  public static boolean retainRuntimeMetadataOnly() {
+    return METADATA_RETENTION == MetadataRetentionOption.RUNTIME_ONLY;
+  }
+
   /**
    * Gets the system option indicated by the specified key; runs as a privileged action.
    *
@@ -23,6 +23,7 @@ import com.google.inject.Key;
 import com.google.inject.MembersInjector;
 import com.google.inject.Module;
 import com.google.inject.Provider;
+import com.google.inject.ProvisionPlan;
 import com.google.inject.Scope;
 import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -112,6 +114,11 @@ public final class InternalInjectorCreator {
 
     injectDynamically();
 
+    if (shellBuilder.getStage() != Stage.TOOL && InternalFlags.retainRuntimeMetadataOnly()) {
+      dropIntrospectionMetadata();
+    }
+    ClassMetadataCache.logStatistics();
+
     if (shellBuilder.getStage() == Stage.TOOL) {
       // wrap the primaryInjector in a ToolStageInjector
       // to prevent non-tool-friendy methods from being called.
@@ -162,6 +169,21 @@ public final class InternalInjectorCreator {
     errors.throwCreationExceptionIfErrorsExist();
   }
 
+  /**
+   * Drops the metadata only needed to introspect the injectors, now that they're created. See
+   * {@link InternalFlags.MetadataRetentionOption#RUNTIME_ONLY}.
+   */
+  private void dropIntrospectionMetadata() {
+    DroppedMetadata dropped = new DroppedMetadata();
+    for (InjectorShell shell : shells) {
+      shell.getInjector().getBindingData().dropIntrospectionMetadata(dropped);
+      if (shell.getPrivateElements() != null) {
+        shell.getPrivateElements().dropElements(dropped);
+      }
+    }
+    stopwatch.resetAndLog("Dropping metadata", dropped);
+  }
+
   /** Returns the injector being constructed. This is not necessarily the root injector. */
   private Injector primaryInjector() {
     return shells.get(0).getInjector();
@@ -187,6 +209,32 @@ public final class InternalInjectorCreator {
       stopwatch.resetAndLog("Preloading singletons");
     }
     errors.throwCreationExceptionIfErrorsExist();
+
+    if (shellBuilder.getStage() == Stage.PRODUCTION
+        && InternalFlags.isEagerMethodHandleLinkingEnabled()) {
+      for (InjectorShell shell : shells) {
+        linkExplicitBindings(shell.getInjector());
+      }
+      stopwatch.resetAndLog("Linking method handles");
+    }
+  }
+
+  /**
+   * Eagerly links the method handles of all explicit bindings at this level of the injector.
+   *
+   * <p>Linking a factory recursively links the handles of all of its dependencies, so each root
+   * key ends up with a single handle tree covering its whole dependency graph, which then becomes
+   * a single unit for the JIT. Because this runs after singletons were preloaded, the handles of
+   * singleton dependencies are folded into constants rather than self-patching call sites.
+   */
+  private static void linkExplicitBindings(InjectorImpl injector) {
+    for (Binding<?> binding : injector.getBindingData().getExplicitBindingsThisLevel().values()) {
+      if (binding instanceof UntargettedBindingImpl) {
+        continue; // placeholder bindings have no factory to link.
+      }
+      InternalFactory<?> factory = ((BindingImpl<?>) binding).getInternalFactory();
+      factory.getHandle(new LinkageContext(), /* linked= */ false);
+    }
   }
 
   /**
@@ -328,6 +376,30 @@ public final class InternalInjectorCreator {
           "Injector.getProvider(Class<T>) is not supported in Stage.TOOL");
     }
 
+    @Override
+    public ProvisionPlan getProvisionPlan(List<? extends Key<?>> keys) {
+      throw new UnsupportedOperationException(
+          "Injector.getProvisionPlan(List<Key<?>>) is not supported in Stage.TOOL");
+    }
+
+    @Override
+    public List<Object> getInstances(List<? extends Key<?>> keys) {
+      throw new UnsupportedOperationException(
+          "Injector.getInstances(List<Key<?>>) is not supported in Stage.TOOL");
+    }
+
+    @Override
+    public <T> Optional<Provider<T>> findProvider(Key<T> key) {
+      throw new UnsupportedOperationException(
+          "Injector.findProvider(Key<T>) is not supported in Stage.TOOL");
+    }
+
+    @Override
+    public <T> Optional<Provider<T>> findProvider(Class<T> type) {
+      throw new UnsupportedOperationException(
+          "Injector.findProvider(Class<T>) is not supported in Stage.TOOL");
+    }
+
     @Override
     public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
       throw new UnsupportedOperationException(
@@ -9,6 +9,7 @@ import com.google.inject.spi.Dependency;
 import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.InjectionPoint;
 import java.lang.invoke.MethodHandle;
+import java.util.Map;
 
 /**
  * A {@link ProviderInstanceBindingImpl} for implementing 'native' guice extensions.
@@ -118,6 +119,26 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
       return source;
     }
 
+    /**
+     * Returns true if this factory supports {@link #copy}, so that a binding to it can be replayed
+     * into another injector.
+     */
+    boolean isCopyable() {
+      return false;
+    }
+
+    /**
+     * Returns a new factory like this one that isn't bound to an injector yet, so that a binding
+     * to this factory can be replayed into another injector. Factories sharing some state share the
+     * copy of that state too, which {@code copies} maps it to. See {@link ElementReplayer}.
+     *
+     * @throws UnsupportedOperationException if this factory isn't {@linkplain #isCopyable
+     *     copyable}
+     */
+    Factory<T> copy(Map<Object, Object> copies) {
+      throw new UnsupportedOperationException(getClass() + " can't be copied");
+    }
+
     /**
      * A callback that allows for implementations to fetch dependencies on other bindings.
      *
@@ -181,20 +181,31 @@ public final class InternalProvisionException extends Exception {
       }
     }
 
+    // Locating the member reads its class file, so it's deferred until the message is read.
+    Message message =
+        new Message(
+            GuiceInternal.GUICE_INTERNAL,
+            ErrorId.NULL_INJECTED_INTO_NON_NULLABLE,
+            new GenericErrorDetail(
+                ErrorId.NULL_INJECTED_INTO_NON_NULLABLE,
+                () ->
+                    Messages.format(
+                        "null returned by binding at %s\n but %s is not @Nullable",
+                        source,
+                        formatDependency(dependency)),
+                ImmutableList.of(),
+                null));
+    throw new InternalProvisionException(message).addSource(source);
+  }
+
+  private static Object formatDependency(Dependency<?> dependency) {
     String parameterName =
         (dependency.getParameterIndex() != -1) ? SourceFormatter.getParameterName(dependency) : "";
     Object memberStackTraceElement =
         StackTraceElements.forMember(dependency.getInjectionPoint().getMember());
-    Object formattedDependency =
-        parameterName.isEmpty()
-            ? memberStackTraceElement
-            : "the " + parameterName + " of " + memberStackTraceElement;
-    throw InternalProvisionException.create(
-            ErrorId.NULL_INJECTED_INTO_NON_NULLABLE,
-            "null returned by binding at %s\n but %s is not @Nullable",
-            source,
-            formattedDependency)
-        .addSource(source);
+    return parameterName.isEmpty()
+        ? memberStackTraceElement
+        : "the " + parameterName + " of " + memberStackTraceElement;
   }
 
   private final List<Object> sourcesToPrepend = new ArrayList<>();
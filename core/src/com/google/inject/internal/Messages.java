@@ -23,9 +23,12 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
 import com.google.inject.internal.util.Classes;
+import com.google.inject.spi.Dependency;
 import com.google.inject.spi.ElementSource;
 import com.google.inject.spi.ErrorDetail;
+import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.Message;
 import java.lang.reflect.Member;
 import java.util.Arrays;
@@ -154,10 +157,42 @@ public final class Messages {
       List<Object> sources,
       String messageFormat,
       Object... arguments) {
+    if (canFormatLater(arguments)) {
+      Object[] argumentsCopy = arguments.clone();
+      return new Message(
+          GuiceInternal.GUICE_INTERNAL,
+          errorId,
+          new GenericErrorDetail(
+              errorId, () -> format(messageFormat, argumentsCopy.clone()), sources, cause));
+    }
     String message = format(messageFormat, arguments);
     return new Message(errorId, sources, message, cause);
   }
 
+  /**
+   * Returns true if formatting {@code arguments} when the message is first read gives the same
+   * message as formatting them now, because they're all immutable.
+   */
+  private static boolean canFormatLater(Object[] arguments) {
+    for (Object argument : arguments) {
+      if (argument != null
+          && !(argument instanceof String
+              || argument instanceof Integer
+              || argument instanceof Class
+              || argument instanceof Member
+              || argument instanceof Key
+              || argument instanceof TypeLiteral
+              || argument instanceof Dependency
+              || argument instanceof InjectionPoint
+              || argument instanceof ElementSource
+              || argument instanceof StackTraceElement
+              || argument instanceof Throwable)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /** Formats an object in a user friendly way. */
   static Object convert(Object o) {
     ElementSource source = null;
@@ -60,6 +60,14 @@ public class MoreTypes {
           .put(TypeLiteral.get(void.class), TypeLiteral.get(Void.class))
           .buildOrThrow();
 
+  private static final ClassValue<TypeLiteral<?>> CLASS_TYPE_LITERALS =
+      new ClassValue<TypeLiteral<?>>() {
+        @Override
+        protected TypeLiteral<?> computeValue(Class<?> type) {
+          return TypeLiteral.get(type);
+        }
+      };
+
   /**
    * Returns a key that doesn't hold any references to parent classes. This is necessary for
    * anonymous keys, so ensure we don't hold a ref to the containing module (or class) forever.
@@ -111,6 +119,13 @@ public class MoreTypes {
       return wrappedPrimitives;
     }
 
+    // Most keys are for plain classes, share a single type literal for each of them.
+    if (type instanceof Class) {
+      @SuppressWarnings("unchecked") // the type literal is for the same class
+      TypeLiteral<T> classTypeLiteral = (TypeLiteral<T>) CLASS_TYPE_LITERALS.get((Class<?>) type);
+      return classTypeLiteral;
+    }
+
     // If we know this isn't a subclass, return as-is.
     if (typeLiteral.getClass() == TypeLiteral.class) {
       return typeLiteral;
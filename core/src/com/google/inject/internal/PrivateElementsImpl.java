@@ -77,6 +77,15 @@ public final class PrivateElementsImpl implements PrivateElements {
     return elements;
   }
 
+  /**
+   * Drops the recorded elements once the private injector is created, adding them to {@code
+   * dropped}. See {@link InternalFlags.MetadataRetentionOption#RUNTIME_ONLY}.
+   */
+  void dropElements(DroppedMetadata dropped) {
+    dropped.add(DroppedMetadata.Category.PRIVATE_ELEMENTS, getElements().size());
+    elements = ImmutableList.of();
+  }
+
   @Override
   public Injector getInjector() {
     return injector;
@@ -44,6 +44,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 
@@ -148,6 +149,25 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
     this.annotation = annotation;
   }
 
+  /** Creates a copy of {@code original} that isn't bound to an injector yet. */
+  ProviderMethod(ProviderMethod<T> original) {
+    this(
+        original.key,
+        original.method,
+        original.instance,
+        original.dependencies,
+        original.scopeAnnotation,
+        original.annotation);
+  }
+
+  @Override
+  final boolean isCopyable() {
+    return true;
+  }
+
+  @Override
+  abstract ProviderMethod<T> copy(Map<Object, Object> copies);
+
   @Override
   public Key<T> getKey() {
     return key;
@@ -335,6 +355,16 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
       this.fastMethod = fastMethod;
     }
 
+    FastClassProviderMethod(FastClassProviderMethod<T> original) {
+      super(original);
+      this.fastMethod = original.fastMethod;
+    }
+
+    @Override
+    FastClassProviderMethod<T> copy(Map<Object, Object> copies) {
+      return new FastClassProviderMethod<>(this);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public T doProvision(Object[] parameters) throws InvocationTargetException {
@@ -377,6 +407,15 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
       super(key, method, instance, dependencies, scopeAnnotation, annotation);
     }
 
+    ReflectionProviderMethod(ReflectionProviderMethod<T> original) {
+      super(original);
+    }
+
+    @Override
+    ReflectionProviderMethod<T> copy(Map<Object, Object> copies) {
+      return new ReflectionProviderMethod<>(this);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     T doProvision(Object[] parameters) throws IllegalAccessException, InvocationTargetException {
@@ -433,6 +472,16 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
       this.providerMethod = providerMethod;
     }
 
+    MethodHandleProviderMethod(MethodHandleProviderMethod<T> original) {
+      super(original);
+      this.providerMethod = original.providerMethod;
+    }
+
+    @Override
+    MethodHandleProviderMethod<T> copy(Map<Object, Object> copies) {
+      return new MethodHandleProviderMethod<>(this);
+    }
+
     @Override
     MethodHandle doProvisionHandle(MethodHandle[] parameters) {
       // Cast the parameters to the correct concrete type.
@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.inject.Binder;
+import com.google.inject.ConfigurationException;
 import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provides;
@@ -41,6 +42,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
 
 /**
  * Creates bindings to methods annotated with {@literal @}{@link Provides}. Use the scope and
@@ -109,35 +114,101 @@ public final class ProviderMethodsModule implements Module {
     }
   }
 
+  /**
+   * The methods claimed by scanners in each module class, keyed by the annotation classes of the
+   * scanners. What's cached only depends on the class and the annotation classes, so it's shared
+   * by all injectors and all instances of the module.
+   */
+  private static final ClassMetadataCache<
+          Map<Set<Class<? extends Annotation>>, ImmutableList<MethodAndAnnotation>>>
+      PROVIDER_METHODS =
+          ClassMetadataCache.create("Provider methods", type -> new ConcurrentHashMap<>());
+
   public List<ProviderMethod<?>> getProviderMethods(Binder binder) {
-    List<ProviderMethod<?>> result = null;
-    List<MethodAndAnnotation> methodsAndAnnotations = null;
-    // The highest class in the type hierarchy that contained a provider method definition.
-    Class<?> superMostClass = getDelegateModuleClass();
-    for (Class<?> c = superMostClass; c != Object.class && c != null; c = c.getSuperclass()) {
-      for (MethodAndAnnotation methodAndAnnotation :
-          getDeclaredProviderAnnotatedMethods(c, binder)) {
-        Annotation annotation = methodAndAnnotation.annotation;
-        Method method = methodAndAnnotation.method;
-        if (isStaticModule()
-            && !Modifier.isStatic(method.getModifiers())
-            && !Modifier.isAbstract(method.getModifiers())) {
-          binder.addError(
-              "%s is an instance method, but a class literal was passed. Make this method"
-                  + " static or pass an instance of the module instead.",
-              method);
-          continue;
+    Class<?> moduleClass = getDelegateModuleClass();
+    ImmutableList<MethodAndAnnotation> methodsAndAnnotations =
+        PROVIDER_METHODS
+            .get(moduleClass)
+            .computeIfAbsent(
+                ImmutableSet.copyOf(scanner.annotationClasses()),
+                annotationClasses ->
+                    findProviderAnnotatedMethods(moduleClass, typeLiteral, annotationClasses));
+    if (methodsAndAnnotations.isEmpty()) {
+      return ImmutableList.of();
+    }
+    List<ProviderMethod<?>> result = new ArrayList<>();
+    List<MethodAndAnnotation> overridden = null;
+    for (MethodAndAnnotation methodAndAnnotation : methodsAndAnnotations) {
+      Annotation annotation = methodAndAnnotation.annotation;
+      Method method = methodAndAnnotation.method;
+      if (annotation == null) {
+        binder.addError(
+            "More than one annotation claimed by %s on method %s."
+                + " Methods can only have one annotation claimed per scanner.",
+            scanner, method);
+        continue;
+      }
+      if (isStaticModule()
+          && !Modifier.isStatic(method.getModifiers())
+          && !Modifier.isAbstract(method.getModifiers())) {
+        binder.addError(
+            "%s is an instance method, but a class literal was passed. Make this method"
+                + " static or pass an instance of the module instead.",
+            method);
+        continue;
+      }
+
+      ProviderMethod<Object> providerMethod = createProviderMethod(binder, methodAndAnnotation);
+      if (providerMethod != null) {
+        result.add(providerMethod);
+      }
+      if (methodAndAnnotation.overriddenBy != null) {
+        if (overridden == null) {
+          overridden = new ArrayList<>();
         }
+        overridden.add(methodAndAnnotation);
+      }
+    }
+    if (overridden != null) {
+      for (MethodAndAnnotation methodAndAnnotation : overridden) {
+        Annotation annotation = methodAndAnnotation.annotation;
+        String annotationString =
+            annotation.annotationType() == Provides.class
+                ? "@Provides"
+                : "@" + annotation.annotationType().getCanonicalName();
+        binder.addError(
+            "Overriding "
+                + annotationString
+                + " methods is not allowed."
+                + "\n\t"
+                + annotationString
+                + " method: %s\n\toverridden by: %s",
+            methodAndAnnotation.method,
+            methodAndAnnotation.overriddenBy);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the methods of {@code moduleClass} and its superclasses that are annotated with one of
+   * {@code annotationClasses}, superclass methods last.
+   */
+  private static ImmutableList<MethodAndAnnotation> findProviderAnnotatedMethods(
+      Class<?> moduleClass,
+      TypeLiteral<?> typeLiteral,
+      Set<Class<? extends Annotation>> annotationClasses) {
+    List<MethodAndAnnotation> result = null;
+    // The highest class in the type hierarchy that contained a provider method definition.
+    Class<?> superMostClass = moduleClass;
+    for (Class<?> c = moduleClass; c != Object.class && c != null; c = c.getSuperclass()) {
+      List<MethodAndAnnotation> declared =
+          getDeclaredProviderAnnotatedMethods(c, typeLiteral, annotationClasses);
+      if (!declared.isEmpty()) {
         if (result == null) {
           result = new ArrayList<>();
-          methodsAndAnnotations = new ArrayList<>();
-        }
-
-        ProviderMethod<Object> providerMethod = createProviderMethod(binder, method, annotation);
-        if (providerMethod != null) {
-          result.add(providerMethod);
         }
-        methodsAndAnnotations.add(methodAndAnnotation);
+        result.addAll(declared);
         superMostClass = c;
       }
     }
@@ -150,9 +221,9 @@ public final class ProviderMethodsModule implements Module {
     // provides methods, or when all provides methods are defined in a single class.
     Multimap<Signature, Method> methodsBySignature = null;
     // We can stop scanning when we see superMostClass, since no superclass method can override
-    // a method in a subclass.  Corrollary, if superMostClass == getDelegateModuleClass(), there can
-    // be no overrides of a provides method.
-    for (Class<?> c = getDelegateModuleClass(); c != superMostClass; c = c.getSuperclass()) {
+    // a method in a subclass.  Corrollary, if superMostClass == moduleClass, there can be no
+    // overrides of a provides method.
+    for (Class<?> c = moduleClass; c != superMostClass; c = c.getSuperclass()) {
       for (Method method : c.getDeclaredMethods()) {
         if (((method.getModifiers() & (Modifier.PRIVATE | Modifier.STATIC)) == 0)
             && !method.isBridge()
@@ -168,9 +239,11 @@ public final class ProviderMethodsModule implements Module {
       // we have found all the signatures and now need to identify if any were overridden
       // In the worst case this will have O(n^2) in the number of @Provides methods, but that is
       // only assuming that every method is an override, in general it should be very quick.
-      for (MethodAndAnnotation methodAndAnnotation : methodsAndAnnotations) {
+      for (MethodAndAnnotation methodAndAnnotation : result) {
         Method method = methodAndAnnotation.method;
-        Annotation annotation = methodAndAnnotation.annotation;
+        if (methodAndAnnotation.annotation == null) {
+          continue;
+        }
 
         for (Method matchingSignature :
             methodsBySignature.get(new Signature(typeLiteral, method))) {
@@ -181,73 +254,89 @@ public final class ProviderMethodsModule implements Module {
           }
           // now we know matching signature is in a subtype of method.getDeclaringClass()
           if (overrides(matchingSignature, method)) {
-            String annotationString =
-                annotation.annotationType() == Provides.class
-                    ? "@Provides"
-                    : "@" + annotation.annotationType().getCanonicalName();
-            binder.addError(
-                "Overriding "
-                    + annotationString
-                    + " methods is not allowed."
-                    + "\n\t"
-                    + annotationString
-                    + " method: %s\n\toverridden by: %s",
-                method,
-                matchingSignature);
+            methodAndAnnotation.overriddenBy = matchingSignature;
             break;
           }
         }
       }
     }
-    return result;
+    return ImmutableList.copyOf(result);
   }
 
   private static final Comparator<MethodAndAnnotation> METHOD_AND_ANNOTATION_COMPARATOR =
       Comparator.comparing(
           methodAndAnnotation -> methodAndAnnotation.method, DeclaredMembers.METHOD_COMPARATOR);
 
-  private List<MethodAndAnnotation> getDeclaredProviderAnnotatedMethods(Class<?> c, Binder binder) {
+  private static List<MethodAndAnnotation> getDeclaredProviderAnnotatedMethods(
+      Class<?> c, TypeLiteral<?> typeLiteral, Set<Class<? extends Annotation>> annotationClasses) {
     List<MethodAndAnnotation> result = new ArrayList<>();
     for (Method method : c.getDeclaredMethods()) {
-      Annotation annotation = getAnnotation(binder, method);
-      if (annotation != null) {
-        result.add(new MethodAndAnnotation(method, annotation));
+      if (method.isBridge() || method.isSynthetic()) {
+        continue;
+      }
+      Annotation annotation = null;
+      boolean claimedMoreThanOnce = false;
+      for (Class<? extends Annotation> annotationClass : annotationClasses) {
+        Annotation foundAnnotation = method.getAnnotation(annotationClass);
+        if (foundAnnotation != null) {
+          if (annotation != null) {
+            claimedMoreThanOnce = true;
+            break;
+          }
+          annotation = foundAnnotation;
+        }
+      }
+      if (claimedMoreThanOnce) {
+        result.add(new MethodAndAnnotation(method, null, typeLiteral));
+      } else if (annotation != null) {
+        result.add(new MethodAndAnnotation(method, annotation, typeLiteral));
       }
     }
     result.sort(METHOD_AND_ANNOTATION_COMPARATOR);
     return result;
   }
 
+  /**
+   * A method claimed by a scanner, together with everything about it that doesn't depend on the
+   * module instance or the scanner.
+   */
   private static class MethodAndAnnotation {
     final Method method;
-    final Annotation annotation;
-
-    MethodAndAnnotation(Method method, Annotation annotation) {
+    /** The claimed annotation, or null if the method has more than one claimed annotation. */
+    @Nullable final Annotation annotation;
+    final ClassMetadataCache.Result<InjectionPoint> point;
+    final Key<?> key;
+    @Nullable final Class<? extends Annotation> scopeAnnotation;
+    /** Errors in the key or scope of the method. */
+    final ImmutableList<Message> errors;
+    /** The method in a subclass that overrides this one, if any. Only set while scanning. */
+    @Nullable Method overriddenBy;
+
+    MethodAndAnnotation(
+        Method method, @Nullable Annotation annotation, TypeLiteral<?> typeLiteral) {
       this.method = method;
       this.annotation = annotation;
-    }
-  }
-
-  /** Returns the annotation that is claimed by the scanner, or null if there is none. */
-  private Annotation getAnnotation(Binder binder, Method method) {
-    if (method.isBridge() || method.isSynthetic()) {
-      return null;
-    }
-    Annotation annotation = null;
-    for (Class<? extends Annotation> annotationClass : scanner.annotationClasses()) {
-      Annotation foundAnnotation = method.getAnnotation(annotationClass);
-      if (foundAnnotation != null) {
-        if (annotation != null) {
-          binder.addError(
-              "More than one annotation claimed by %s on method %s."
-                  + " Methods can only have one annotation claimed per scanner.",
-              scanner, method);
-          return null;
-        }
-        annotation = foundAnnotation;
+      if (annotation == null) {
+        this.point = null;
+        this.key = null;
+        this.scopeAnnotation = null;
+        this.errors = ImmutableList.of();
+        return;
+      }
+      ClassMetadataCache.Result<InjectionPoint> point;
+      try {
+        point =
+            new ClassMetadataCache.Result<>(
+                InjectionPoint.forMethod(method, typeLiteral), ImmutableList.of());
+      } catch (ConfigurationException e) {
+        point = new ClassMetadataCache.Result<>(null, e.getErrorMessages());
       }
+      this.point = point;
+      Errors errors = new Errors(method);
+      this.key = getKey(errors, typeLiteral.getReturnType(method), method, method.getAnnotations());
+      this.scopeAnnotation = Annotations.findScopeAnnotation(errors, method.getAnnotations());
+      this.errors = ImmutableList.copyOf(errors.getMessages());
     }
-    return annotation;
   }
 
   private static final class Signature {
@@ -301,19 +390,23 @@ public final class ProviderMethodsModule implements Module {
   }
 
   private <T> ProviderMethod<T> createProviderMethod(
-      Binder binder, Method method, Annotation annotation) {
+      Binder binder, MethodAndAnnotation methodAndAnnotation) {
+    Method method = methodAndAnnotation.method;
     binder = binder.withSource(method);
-    Errors errors = new Errors(method);
 
     // prepare the parameter providers
-    InjectionPoint point = InjectionPoint.forMethod(method, typeLiteral);
+    InjectionPoint point = methodAndAnnotation.point.getOrThrow();
     @SuppressWarnings("unchecked") // Define T as the method's return type.
-    TypeLiteral<T> returnType = (TypeLiteral<T>) typeLiteral.getReturnType(method);
-    Key<T> key = getKey(errors, returnType, method, method.getAnnotations());
+    Key<T> key = (Key<T>) methodAndAnnotation.key;
     boolean prepareMethodError = false;
     try {
       key =
-          scanner.prepareMethod(binder, annotation, key, point, isStaticModule() ? null : delegate);
+          scanner.prepareMethod(
+              binder,
+              methodAndAnnotation.annotation,
+              key,
+              point,
+              isStaticModule() ? null : delegate);
     } catch (Throwable t) {
       prepareMethodError = true;
       binder.addError(t);
@@ -334,9 +427,7 @@ public final class ProviderMethodsModule implements Module {
       return null;
     }
 
-    Class<? extends Annotation> scopeAnnotation =
-        Annotations.findScopeAnnotation(errors, method.getAnnotations());
-    for (Message message : errors.getMessages()) {
+    for (Message message : methodAndAnnotation.errors) {
       binder.addError(message);
     }
 
@@ -345,12 +436,13 @@ public final class ProviderMethodsModule implements Module {
         method,
         isStaticModule() || Modifier.isStatic(method.getModifiers()) ? null : delegate,
         ImmutableSet.copyOf(point.getDependencies()),
-        scopeAnnotation,
+        methodAndAnnotation.scopeAnnotation,
         skipFastClassGeneration,
-        annotation);
+        methodAndAnnotation.annotation);
   }
 
-  <T> Key<T> getKey(Errors errors, TypeLiteral<T> type, Member member, Annotation[] annotations) {
+  static <T> Key<T> getKey(
+      Errors errors, TypeLiteral<T> type, Member member, Annotation[] annotations) {
     Annotation bindingAnnotation = Annotations.findBindingAnnotation(errors, member, annotations);
     return bindingAnnotation == null ? Key.get(type) : Key.get(type, bindingAnnotation);
   }
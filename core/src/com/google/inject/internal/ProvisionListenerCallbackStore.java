@@ -30,10 +30,14 @@ import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.ProvisionListenerBinding;
 import java.util.List;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link ProvisionListenerStackCallback} for each key.
  *
+ * <p>Callbacks are looked up once, when a binding is initialized, and keys that match no listener
+ * get a {@code null} callback, so they pay nothing at provision time.
+ *
  * @author sameb@google.com (Sam Berlin)
  */
 final class ProvisionListenerCallbackStore {
@@ -45,18 +49,22 @@ final class ProvisionListenerCallbackStore {
 
   private final ImmutableList<ProvisionListenerBinding> listenerBindings;
 
-  private final LoadingCache<KeyBinding, ProvisionListenerStackCallback<?>> cache =
-      CacheBuilder.newBuilder()
-          .build(
-              new CacheLoader<KeyBinding, ProvisionListenerStackCallback<?>>() {
-                @Override
-                public ProvisionListenerStackCallback<?> load(KeyBinding key) {
-                  return create(key.binding);
-                }
-              });
+  /** Null if there are no listener bindings, most injectors have none. */
+  @Nullable private final LoadingCache<KeyBinding, ProvisionListenerStackCallback<?>> cache;
 
   ProvisionListenerCallbackStore(List<ProvisionListenerBinding> listenerBindings) {
     this.listenerBindings = ImmutableList.copyOf(listenerBindings);
+    this.cache =
+        this.listenerBindings.isEmpty()
+            ? null
+            : CacheBuilder.newBuilder()
+                .build(
+                    new CacheLoader<KeyBinding, ProvisionListenerStackCallback<?>>() {
+                      @Override
+                      public ProvisionListenerStackCallback<?> load(KeyBinding key) {
+                        return create(key.binding);
+                      }
+                    });
   }
 
   /**
@@ -66,6 +74,10 @@ final class ProvisionListenerCallbackStore {
   @SuppressWarnings(
       "unchecked") // the ProvisionListenerStackCallback type always agrees with the passed type
   public <T> ProvisionListenerStackCallback<T> get(Binding<T> binding) {
+    // Optimization: most injectors have no listeners at all, so skip hashing the key.
+    if (cache == null) {
+      return null;
+    }
     // Never notify any listeners for internal bindings.
     if (!INTERNAL_BINDINGS.contains(binding.getKey())) {
       ProvisionListenerStackCallback<T> callback =
@@ -86,7 +98,7 @@ final class ProvisionListenerCallbackStore {
    * <p>Returns true if the type was stored in the cache, false otherwise.
    */
   boolean remove(Binding<?> type) {
-    return cache.asMap().remove(type) != null;
+    return cache != null && cache.asMap().remove(new KeyBinding(type.getKey(), type)) != null;
   }
 
   /**
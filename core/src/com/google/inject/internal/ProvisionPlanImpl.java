@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.inject.internal.InternalMethodHandles.sneakyThrow;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Key;
+import com.google.inject.ProvisionPlan;
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link ProvisionPlan} that injects each key like a constructor parameter, so that all keys are
+ * provisioned in a single {@link InternalContext}.
+ */
+final class ProvisionPlanImpl implements ProvisionPlan {
+  private final InjectorImpl injector;
+  private final ImmutableList<Key<?>> keys;
+  private final SingleParameterInjector<?>[] parameterInjectors;
+  private volatile MethodHandle handle;
+
+  ProvisionPlanImpl(
+      InjectorImpl injector,
+      ImmutableList<Key<?>> keys,
+      SingleParameterInjector<?>[] parameterInjectors) {
+    this.injector = injector;
+    this.keys = keys;
+    this.parameterInjectors = parameterInjectors;
+  }
+
+  @Override
+  public List<Key<?>> getKeys() {
+    return keys;
+  }
+
+  @Override
+  public List<Object> provision() {
+    Object[] instances;
+    InternalContext context = injector.enterContext();
+    try {
+      if (InternalFlags.getUseMethodHandlesOption()) {
+        instances = (Object[]) getHandle().invokeExact(context);
+      } else {
+        instances = SingleParameterInjector.getAll(context, parameterInjectors);
+      }
+    } catch (InternalProvisionException e) {
+      throw e.toProvisionException();
+    } catch (Throwable t) {
+      throw sneakyThrow(t);
+    } finally {
+      context.close();
+    }
+    return Collections.unmodifiableList(Arrays.asList(instances));
+  }
+
+  /** Returns a `(InternalContext)->Object[]` handle that provisions all keys. */
+  private MethodHandle getHandle() {
+    var local = this.handle;
+    if (local == null) {
+      // Racing threads build equivalent handles, so there's no need to synchronize.
+      local =
+          InternalMethodHandles.buildObjectArrayFactory(
+              SingleParameterInjector.getAllHandles(new LinkageContext(), parameterInjectors));
+      this.handle = local;
+    }
+    return local;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(ProvisionPlan.class).add("keys", keys).toString();
+  }
+}
@@ -4,6 +4,7 @@ import static com.google.inject.internal.Element.Type.MAPBINDER;
 import static com.google.inject.internal.Errors.checkConfiguration;
 import static com.google.inject.internal.Errors.checkNotNull;
 import static com.google.inject.internal.InternalMethodHandles.buildImmutableMapFactory;
+import static com.google.inject.internal.InternalMethodHandles.castReturnToObject;
 import static com.google.inject.internal.RealMultibinder.setOf;
 import static com.google.inject.util.Types.newParameterizedType;
 import static com.google.inject.util.Types.newParameterizedTypeWithOwner;
@@ -11,12 +12,14 @@ import static java.lang.invoke.MethodType.methodType;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
@@ -32,6 +35,7 @@ import com.google.inject.Provider;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.internal.InternalProviderInstanceBindingImpl.InitializationTiming;
+import com.google.inject.multibindings.KeyedProvider;
 import com.google.inject.multibindings.MapBinderBinding;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.multibindings.MultibindingsTargetVisitor;
@@ -45,12 +49,16 @@ import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The actual mapbinder plays several roles:
@@ -132,6 +140,14 @@ public final class RealMapBinder<K, V> implements Module {
         TypeLiteral.get(Types.mapOf(keyType.getType(), Types.providerOf(valueType.getType())));
   }
 
+  @SuppressWarnings("unchecked") // a keyed provider of <K, V> is safely a KeyedProvider<K, V>
+  static <K, V> TypeLiteral<KeyedProvider<K, V>> keyedProviderOf(
+      TypeLiteral<K> keyType, TypeLiteral<V> valueType) {
+    return (TypeLiteral<KeyedProvider<K, V>>)
+        TypeLiteral.get(
+            newParameterizedType(KeyedProvider.class, keyType.getType(), valueType.getType()));
+  }
+
   // provider map <K, V> is safely a Map<K, jakarta.inject.Provider<V>>>
   @SuppressWarnings("unchecked")
   static <K, V> TypeLiteral<Map<K, jakarta.inject.Provider<V>>> mapOfJakartaProviderOf(
@@ -273,6 +289,11 @@ public final class RealMapBinder<K, V> implements Module {
     binder.install(new MultimapBinder<K, V>(bindingSelection));
   }
 
+  public void provisionLazily() {
+    checkConfiguration(!bindingSelection.isInitialized(), "MapBinder was already initialized");
+    entrySetBinder.provisionLazily();
+  }
+
   /** Adds a binding to the map for the given key. */
   Key<V> getKeyForNewValue(K key) {
     checkNotNull(key, "key");
@@ -314,6 +335,11 @@ public final class RealMapBinder<K, V> implements Module {
         .bind(bindingSelection.getJakartaProviderMapKey())
         .to((Key) bindingSelection.getProviderMapKey());
 
+    // Binds a KeyedProvider<K, V>
+    binder
+        .bind(bindingSelection.getKeyedProviderKey())
+        .toProvider(new RealKeyedProviderProvider<>(bindingSelection));
+
     // Bind Map<K, V> to the provider w/ extension support.
     binder
         .bind(bindingSelection.getMapKey())
@@ -368,6 +394,7 @@ public final class RealMapBinder<K, V> implements Module {
 
     // Lazily computed
     private Key<Map<K, Provider<V>>> providerMapKey;
+    private Key<KeyedProvider<K, V>> keyedProviderKey;
     private Key<Map<K, Set<V>>> multimapKey;
     private Key<Map<K, Set<Provider<V>>>> providerSetMultimapKey;
     private Key<Map<K, Collection<Provider<V>>>> providerCollectionMultimapKey;
@@ -398,6 +425,15 @@ public final class RealMapBinder<K, V> implements Module {
      */
     private boolean permitsDuplicates;
 
+    /**
+     * Indicates if the values of this Map are provisioned lazily. Like {@link #permitsDuplicates},
+     * it's queried from the injector, and stored in the entry set binder's configuration.
+     */
+    private boolean provisionsLazily;
+
+    /** Whether all the values in {@link #mapBindings} are constant. */
+    private boolean constantValues;
+
     private BindingSelection(
         TypeLiteral<K> keyType,
         TypeLiteral<V> valueType,
@@ -410,6 +446,17 @@ public final class RealMapBinder<K, V> implements Module {
       this.initializationState = InitializationState.UNINITIALIZED;
     }
 
+    /**
+     * Returns the uninitialized copy of this selection shared by the factories in {@code copies}.
+     * The entry set binder is only used to identify the entries, so the copy shares it.
+     */
+    @SuppressWarnings("unchecked") // copies maps each selection to a selection of the same type
+    BindingSelection<K, V> copy(Map<Object, Object> copies) {
+      return (BindingSelection<K, V>)
+          copies.computeIfAbsent(
+              this, unused -> new BindingSelection<>(keyType, valueType, mapKey, entrySetBinder));
+    }
+
     /**
      * Will initialize internal data structures.
      *
@@ -426,6 +473,7 @@ public final class RealMapBinder<K, V> implements Module {
       // Since permitDuplicates() may not have been called on this instance, we need to go
       // to the injector to see if permitDuplicates was set.
       permitsDuplicates = entrySetBinder.permitsDuplicates(injector);
+      provisionsLazily = entrySetBinder.provisionsLazily(injector);
 
       // We now build the Map<K, Set<Binding<V>>> from the entrySetBinder.
       // The entrySetBinder contains all of the ProviderMapEntrys, and once
@@ -511,6 +559,13 @@ public final class RealMapBinder<K, V> implements Module {
         bindingsMultimapBuilder.put(entry.getKey(), entry.getValue().build());
       }
       mapBindings = ImmutableMap.copyOf(bindingMapMutable);
+      constantValues = true;
+      for (Binding<V> binding : mapBindings.values()) {
+        if (!RealMultibinder.isConstant(injector, binding)) {
+          constantValues = false;
+          break;
+        }
+      }
       multimapBindings = bindingsMultimapBuilder.buildOrThrow();
 
       entries = entriesBuilder.build();
@@ -541,6 +596,7 @@ public final class RealMapBinder<K, V> implements Module {
       return key.equals(getMapKey())
           || key.equals(getProviderMapKey())
           || key.equals(getJakartaProviderMapKey())
+          || key.equals(getKeyedProviderKey())
           || key.equals(getMultimapKey())
           || key.equals(getProviderSetMultimapKey())
           || key.equals(getJakartaProviderSetMultimapKey())
@@ -569,6 +625,14 @@ public final class RealMapBinder<K, V> implements Module {
       return local;
     }
 
+    private Key<KeyedProvider<K, V>> getKeyedProviderKey() {
+      Key<KeyedProvider<K, V>> local = keyedProviderKey;
+      if (local == null) {
+        local = keyedProviderKey = mapKey.ofType(keyedProviderOf(keyType, valueType));
+      }
+      return local;
+    }
+
     private Key<Map<K, jakarta.inject.Provider<V>>> getJakartaProviderMapKey() {
       Key<Map<K, jakarta.inject.Provider<V>>> local = jakartaProviderMapKey;
       if (local == null) {
@@ -683,6 +747,16 @@ public final class RealMapBinder<K, V> implements Module {
       return entrySetBinder;
     }
 
+    private boolean provisionsLazily() {
+      checkConfiguration(isInitialized(), "MapBinder has not yet been initialized");
+      return provisionsLazily;
+    }
+
+    private boolean hasConstantValues() {
+      checkConfiguration(isInitialized(), "MapBinder has not yet been initialized");
+      return constantValues;
+    }
+
     private boolean permitsDuplicates() {
       if (isInitialized()) {
         return permitsDuplicates;
@@ -712,6 +786,11 @@ public final class RealMapBinder<K, V> implements Module {
       super(bindingSelection);
     }
 
+    @Override
+    RealProviderMapProvider<K, V> copy(Map<Object, Object> copies) {
+      return new RealProviderMapProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     public Set<Dependency<?>> getDependencies() {
       return dependencies;
@@ -747,6 +826,206 @@ public final class RealMapBinder<K, V> implements Module {
     }
   }
 
+  private static final class RealKeyedProviderProvider<K, V>
+      extends RealMapBinderProviderWithDependencies<K, V, KeyedProvider<K, V>> {
+    private volatile KeyedProvider<K, V> keyedProvider;
+    private ImmutableSet<Dependency<?>> dependencies = RealMapBinder.MODULE_DEPENDENCIES;
+
+    private RealKeyedProviderProvider(BindingSelection<K, V> bindingSelection) {
+      super(bindingSelection);
+    }
+
+    @Override
+    RealKeyedProviderProvider<K, V> copy(Map<Object, Object> copies) {
+      return new RealKeyedProviderProvider<>(bindingSelection.copy(copies));
+    }
+
+    @Override
+    public Set<Dependency<?>> getDependencies() {
+      return dependencies;
+    }
+
+    @Override
+    protected void doInitialize(InjectorImpl injector, Errors errors) {
+      ImmutableSet.Builder<Dependency<?>> dependenciesBuilder = ImmutableSet.builder();
+      for (Binding<V> binding : bindingSelection.getMapBindings().values()) {
+        dependenciesBuilder.add(Dependency.get(getKeyOfProvider(binding.getKey())));
+      }
+      dependencies = dependenciesBuilder.build();
+    }
+
+    /**
+     * Indexes the bindings the first time the keyed provider is used, so that map binders whose
+     * keyed provider is never injected don't pay for it.
+     */
+    private KeyedProvider<K, V> getKeyedProvider() {
+      KeyedProvider<K, V> local = keyedProvider;
+      if (local == null) {
+        synchronized (this) {
+          local = keyedProvider;
+          if (local == null) {
+            local = IndexedKeyedProvider.create(bindingSelection.getMapBindings());
+            keyedProvider = local;
+          }
+        }
+      }
+      return local;
+    }
+
+    @Override
+    protected KeyedProvider<K, V> doProvision(InternalContext context, Dependency<?> dependency) {
+      return getKeyedProvider();
+    }
+
+    @Override
+    protected Provider<KeyedProvider<K, V>> doMakeProvider(
+        InjectorImpl injector, Dependency<?> dependency) {
+      return InternalFactory.makeProviderFor(getKeyedProvider(), this);
+    }
+
+    @Override
+    protected MethodHandle doGetHandle(LinkageContext context) {
+      return InternalMethodHandles.constantFactoryGetHandle(getKeyedProvider());
+    }
+  }
+
+  /**
+   * A {@link KeyedProvider} that looks up the providers of the values by their key. The providers
+   * of enum keys are kept in an array indexed by their ordinal, and those of dense ranges of
+   * integer keys in an array indexed by their value, so that looking them up needs no hashing.
+   */
+  private static final class IndexedKeyedProvider<K, V> implements KeyedProvider<K, V> {
+    private final ImmutableMap<K, Binding<V>> bindings;
+
+    /** The providers of the values by key, or null if they're kept in {@link #providers}. */
+    private final ImmutableMap<K, Provider<V>> providersByKey;
+
+    /** The providers of the values by index, null for indices without a key. */
+    private final Provider<V>[] providers;
+
+    /** The type of the keys if they're indexed by their ordinal, or null. */
+    private final Class<?> enumType;
+
+    /** The value of the key at index 0 if integer keys are indexed by their value. */
+    private final int offset;
+
+    private IndexedKeyedProvider(
+        ImmutableMap<K, Binding<V>> bindings,
+        ImmutableMap<K, Provider<V>> providersByKey,
+        Provider<V>[] providers,
+        Class<?> enumType,
+        int offset) {
+      this.bindings = bindings;
+      this.providersByKey = providersByKey;
+      this.providers = providers;
+      this.enumType = enumType;
+      this.offset = offset;
+    }
+
+    static <K, V> IndexedKeyedProvider<K, V> create(ImmutableMap<K, Binding<V>> bindings) {
+      ImmutableSet<K> keys = bindings.keySet();
+      Class<?> enumType = getEnumType(keys);
+      if (enumType != null) {
+        Provider<V>[] providers = newProviderArray(enumType.getEnumConstants().length);
+        for (Map.Entry<K, Binding<V>> entry : bindings.entrySet()) {
+          providers[((Enum<?>) entry.getKey()).ordinal()] = entry.getValue().getProvider();
+        }
+        return new IndexedKeyedProvider<>(bindings, null, providers, enumType, 0);
+      }
+      if (!keys.isEmpty() && Iterables.all(keys, Integer.class::isInstance)) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (K key : keys) {
+          min = Math.min(min, (Integer) key);
+          max = Math.max(max, (Integer) key);
+        }
+        // Only index by value if most of the array is used.
+        if (max - min < 2L * keys.size()) {
+          Provider<V>[] providers = newProviderArray((int) (max - min + 1));
+          for (Map.Entry<K, Binding<V>> entry : bindings.entrySet()) {
+            providers[(int) ((Integer) entry.getKey() - min)] = entry.getValue().getProvider();
+          }
+          return new IndexedKeyedProvider<>(bindings, null, providers, null, (int) min);
+        }
+      }
+      ImmutableMap.Builder<K, Provider<V>> providersByKey =
+          ImmutableMap.builderWithExpectedSize(keys.size());
+      for (Map.Entry<K, Binding<V>> entry : bindings.entrySet()) {
+        providersByKey.put(entry.getKey(), entry.getValue().getProvider());
+      }
+      return new IndexedKeyedProvider<>(bindings, providersByKey.buildOrThrow(), null, null, 0);
+    }
+
+    /**
+     * Returns the type of the keys if they're all constants of a single enum type, or null. Keys
+     * of distinct enum types can be bound when the key type is an interface that they implement,
+     * and their ordinals would then clash.
+     */
+    private static Class<?> getEnumType(Set<?> keys) {
+      Class<?> enumType = null;
+      for (Object key : keys) {
+        if (!(key instanceof Enum)) {
+          return null;
+        }
+        Class<?> keyType = ((Enum<?>) key).getDeclaringClass();
+        if (enumType == null) {
+          enumType = keyType;
+        } else if (enumType != keyType) {
+          return null;
+        }
+      }
+      return enumType;
+    }
+
+    @SuppressWarnings("unchecked") // the array only holds Provider<V>s
+    private static <V> Provider<V>[] newProviderArray(int length) {
+      return (Provider<V>[]) new Provider<?>[length];
+    }
+
+    @Override
+    public Set<K> keySet() {
+      return bindings.keySet();
+    }
+
+    @Override
+    public Provider<V> getProvider(K key) {
+      if (providersByKey != null) {
+        return providersByKey.get(key);
+      }
+      long index;
+      if (enumType != null) {
+        if (!enumType.isInstance(key)) {
+          return null;
+        }
+        index = ((Enum<?>) key).ordinal();
+      } else {
+        if (!(key instanceof Integer)) {
+          return null;
+        }
+        index = (long) (Integer) key - offset;
+      }
+      return index >= 0 && index < providers.length ? providers[(int) index] : null;
+    }
+
+    @Override
+    public V get(K key) {
+      Provider<V> provider = getProvider(key);
+      if (provider == null) {
+        return null;
+      }
+      V value = provider.get();
+      if (value == null) {
+        throw createNullValueException(key, bindings.get(key).getSource()).toProvisionException();
+      }
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return "KeyedProvider" + bindings.keySet();
+    }
+  }
+
   /**
    * Implementation of a provider instance for the map that also exposes details about the MapBinder
    * using the extension SPI, delegating to another provider instance for non-extension (e.g, the
@@ -766,10 +1045,27 @@ public final class RealMapBinder<K, V> implements Module {
 
     K[] keys;
 
+    /** The index of each key in {@link #keys}, if the map is provisioned lazily. */
+    ImmutableMap<K, Integer> indices;
+
+    /** The providers of the values, parallel to {@link #keys}, if the map is provisioned lazily. */
+    ImmutableList<Provider<V>> providers;
+
+    /** Whether all the values are constant, so the map can be provisioned once. */
+    boolean constant;
+
+    /** The map, once it's provisioned if it's constant. */
+    volatile ImmutableMap<K, V> constantMap;
+
     ExtensionRealMapProvider(BindingSelection<K, V> bindingSelection) {
       super(bindingSelection);
     }
 
+    @Override
+    ExtensionRealMapProvider<K, V> copy(Map<Object, Object> copies) {
+      return new ExtensionRealMapProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     protected void doInitialize(InjectorImpl injector, Errors errors) throws ErrorsException {
       @SuppressWarnings("unchecked")
@@ -794,11 +1090,52 @@ public final class RealMapBinder<K, V> implements Module {
       SingleParameterInjector<V>[] typedInjectors =
           (SingleParameterInjector<V>[]) injector.getParametersInjectors(dependenciesList, errors);
       injectors = typedInjectors;
+
+      if (bindingSelection.provisionsLazily() && injectors != null) {
+        ImmutableMap.Builder<K, Integer> indicesBuilder =
+            ImmutableMap.builderWithExpectedSize(keys.length);
+        ImmutableList.Builder<Provider<V>> providersBuilder =
+            ImmutableList.builderWithExpectedSize(keys.length);
+        for (int j = 0; j < keys.length; j++) {
+          indicesBuilder.put(keys[j], j);
+          providersBuilder.add(bindingSelection.getMapBindings().get(keys[j]).getProvider());
+        }
+        indices = indicesBuilder.buildOrThrow();
+        providers = providersBuilder.build();
+      }
+      constant = providers == null && bindingSelection.hasConstantValues();
     }
 
     @Override
     protected Map<K, V> doProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
+      if (constant) {
+        return provisionConstant(context, dependency);
+      }
+      if (providers != null) {
+        return new LazyMap();
+      }
+      return provision(context);
+    }
+
+    /** Provisions the map the first time it's requested, and then returns the same map. */
+    @Keep
+    ImmutableMap<K, V> provisionConstant(InternalContext context, Dependency<?> dependency)
+        throws InternalProvisionException {
+      ImmutableMap<K, V> local = constantMap;
+      if (local == null) {
+        local = provision(context);
+        // Singletons that are still being constructed are provided as circular proxies, which
+        // shouldn't outlive the provision that needed them.
+        if (!Iterables.any(local.values(), BytecodeGen::isCircularProxy)) {
+          constantMap = local;
+        }
+      }
+      return local;
+    }
+
+    private ImmutableMap<K, V> provision(InternalContext context)
+        throws InternalProvisionException {
       SingleParameterInjector<V>[] localInjectors = injectors;
       if (localInjectors == null) {
         // if injectors == null, then we have no bindings so return the empty map.
@@ -829,6 +1166,22 @@ public final class RealMapBinder<K, V> implements Module {
       if (injectors == null) {
         return InternalMethodHandles.constantFactoryGetHandle(ImmutableMap.of());
       }
+      if (providers != null) {
+        // (InternalContext, Dependency) -> Object
+        return MethodHandles.dropArguments(
+            castReturnToObject(NEW_LAZY_MAP_HANDLE.bindTo(this)),
+            0,
+            InternalContext.class,
+            Dependency.class);
+      }
+      if (constant) {
+        ImmutableMap<K, V> local = constantMap;
+        if (local != null) {
+          return InternalMethodHandles.constantFactoryGetHandle(local);
+        }
+        // (InternalContext, Dependency) -> Object
+        return castReturnToObject(PROVISION_CONSTANT_HANDLE.bindTo(this));
+      }
       List<Map.Entry<K, MethodHandle>> entries = new ArrayList<>(injectors.length);
       for (int i = 0; i < injectors.length; i++) {
         var key = keys[i];
@@ -848,6 +1201,94 @@ public final class RealMapBinder<K, V> implements Module {
       return MethodHandles.dropArguments(buildImmutableMapFactory(entries), 1, Dependency.class);
     }
 
+    private static final MethodHandle PROVISION_CONSTANT_HANDLE =
+        InternalMethodHandles.findVirtualOrDie(
+            ExtensionRealMapProvider.class,
+            "provisionConstant",
+            methodType(ImmutableMap.class, InternalContext.class, Dependency.class));
+
+    private static final MethodHandle NEW_LAZY_MAP_HANDLE =
+        InternalMethodHandles.findVirtualOrDie(
+            ExtensionRealMapProvider.class, "newLazyMap", methodType(Map.class));
+
+    @Keep
+    Map<K, V> newLazyMap() {
+      return new LazyMap();
+    }
+
+    /**
+     * A map that provisions the value of each key the first time it's looked up, and keeps it for
+     * later lookups. Iterating over the entries or values provisions them in order.
+     */
+    private final class LazyMap extends AbstractMap<K, V> {
+      private final AtomicReferenceArray<V> values = new AtomicReferenceArray<>(keys.length);
+
+      private V getValue(int index) {
+        V value = values.get(index);
+        if (value == null) {
+          value = providers.get(index).get();
+          if (value == null) {
+            K key = keys[index];
+            throw createNullValueException(
+                    key, bindingSelection.getMapBindings().get(key).getSource())
+                .toProvisionException();
+          }
+          // If another thread provisioned the value concurrently, use its value.
+          if (!values.compareAndSet(index, null, value)) {
+            value = values.get(index);
+          }
+        }
+        return value;
+      }
+
+      @Override
+      public V get(Object key) {
+        Integer index = indices.get(key);
+        return index != null ? getValue(index) : null;
+      }
+
+      @Override
+      public boolean containsKey(Object key) {
+        return indices.containsKey(key);
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+
+      @Override
+      public Set<K> keySet() {
+        return indices.keySet();
+      }
+
+      @Override
+      public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+          @Override
+          public Iterator<Map.Entry<K, V>> iterator() {
+            return new AbstractIterator<Map.Entry<K, V>>() {
+              int next = 0;
+
+              @Override
+              protected Map.Entry<K, V> computeNext() {
+                if (next == keys.length) {
+                  return endOfData();
+                }
+                int index = next++;
+                return Maps.immutableEntry(keys[index], getValue(index));
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+            return keys.length;
+          }
+        };
+      }
+    }
+
     @Override
     protected Provider<Map<K, V>> doMakeProvider(InjectorImpl injector, Dependency<?> dependency) {
       if (injectors == null) {
@@ -886,6 +1327,7 @@ public final class RealMapBinder<K, V> implements Module {
       return ImmutableSet.of(
           (Key<?>) bindingSelection.getJakartaProviderMapKey(),
           (Key<?>) bindingSelection.getProviderMapKey(),
+          (Key<?>) bindingSelection.getKeyedProviderKey(),
           (Key<?>) bindingSelection.getProviderSetMultimapKey(),
           (Key<?>) bindingSelection.getJakartaProviderSetMultimapKey(),
           (Key<?>) bindingSelection.getProviderCollectionMultimapKey(),
@@ -1097,6 +1539,11 @@ public final class RealMapBinder<K, V> implements Module {
         super(mapKey);
       }
 
+      @Override
+      RealProviderMultimapProvider<K, V> copy(Map<Object, Object> copies) {
+        return new RealProviderMultimapProvider<>(mapKey);
+      }
+
       @Override
       public Set<Dependency<?>> getDependencies() {
         return dependencies;
@@ -1169,6 +1616,11 @@ public final class RealMapBinder<K, V> implements Module {
         super(mapKey);
       }
 
+      @Override
+      RealMultimapProvider<K, V> copy(Map<Object, Object> copies) {
+        return new RealMultimapProvider<>(mapKey);
+      }
+
       @Override
       public Set<Dependency<?>> getDependencies() {
         return dependencies;
@@ -1295,6 +1747,16 @@ public final class RealMapBinder<K, V> implements Module {
       this.valueKey = valueKey;
     }
 
+    @Override
+    boolean isCopyable() {
+      return true;
+    }
+
+    @Override
+    ProviderMapEntry<K, V> copy(Map<Object, Object> copies) {
+      return new ProviderMapEntry<>(key, valueKey);
+    }
+
     @Override
     public Set<Dependency<?>> getDependencies() {
       // The dependencies are Key<Provider<V>>
@@ -1363,6 +1825,14 @@ public final class RealMapBinder<K, V> implements Module {
       this.bindingSelection = bindingSelection;
     }
 
+    @Override
+    final boolean isCopyable() {
+      return true;
+    }
+
+    @Override
+    abstract RealMapBinderProviderWithDependencies<K, V, P> copy(Map<Object, Object> copies);
+
     @Override
     final void initialize(InjectorImpl injector, Errors errors) throws ErrorsException {
       if (!initialized) {
@@ -1431,6 +1901,14 @@ public final class RealMapBinder<K, V> implements Module {
       this.mapKey = mapKey;
     }
 
+    @Override
+    final boolean isCopyable() {
+      return true;
+    }
+
+    @Override
+    abstract RealMultimapBinderProviderWithDependencies<K, V, P> copy(Map<Object, Object> copies);
+
     /**
      * This will get the authoritative {@link BindingSelection} from the map provider. This
      * guarantees that everyone has the same instance of the bindingSelection and sees consistent
@@ -8,8 +8,10 @@ import static com.google.inject.internal.InternalMethodHandles.castReturnToObjec
 import static com.google.inject.name.Names.named;
 import static java.lang.invoke.MethodType.methodType;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.errorprone.annotations.Keep;
@@ -20,6 +22,7 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provider;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.internal.InternalProviderInstanceBindingImpl.InitializationTiming;
@@ -27,6 +30,8 @@ import com.google.inject.multibindings.MultibinderBinding;
 import com.google.inject.multibindings.MultibindingsTargetVisitor;
 import com.google.inject.spi.BindingTargetVisitor;
 import com.google.inject.spi.Dependency;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
 import com.google.inject.spi.Message;
 import com.google.inject.spi.ProviderInstanceBinding;
 import com.google.inject.spi.ProviderWithExtensionVisitor;
@@ -34,10 +39,15 @@ import com.google.inject.util.Types;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The actual multibinder plays several roles:
@@ -126,7 +136,11 @@ public final class RealMultibinder<T> implements Module {
   }
 
   public void permitDuplicates() {
-    binder.install(new PermitDuplicatesModule(bindingSelection.getPermitDuplicatesKey()));
+    binder.install(new OptionModule(bindingSelection.getPermitDuplicatesKey()));
+  }
+
+  public void provisionLazily() {
+    binder.install(new OptionModule(bindingSelection.getProvisionLazilyKey()));
   }
 
   /** Adds a new entry to the set and returns the key for it. */
@@ -159,10 +173,33 @@ public final class RealMultibinder<T> implements Module {
     return bindingSelection.permitsDuplicates(injector);
   }
 
+  boolean provisionsLazily(Injector injector) {
+    return bindingSelection.provisionsLazily(injector);
+  }
+
   boolean containsElement(com.google.inject.spi.Element element) {
     return bindingSelection.containsElement(element);
   }
 
+  /**
+   * Returns true if {@code binding} always provides the same instance, because it's an instance
+   * binding or a singleton, possibly after following linked bindings.
+   */
+  static boolean isConstant(InjectorImpl injector, Binding<?> binding) {
+    Set<Key<?>> visited = new HashSet<>();
+    while (binding instanceof BindingImpl && visited.add(binding.getKey())) {
+      if (binding instanceof InstanceBinding
+          || ((BindingImpl<?>) binding).getScoping().getScopeInstance() == Scopes.SINGLETON) {
+        return true;
+      }
+      if (!(binding instanceof LinkedKeyBinding)) {
+        return false;
+      }
+      binding = injector.getExistingBinding(((LinkedKeyBinding<?>) binding).getLinkedKey());
+    }
+    return false;
+  }
+
   /**
    * Base implement of {@link InternalProviderInstanceBindingImpl.Factory} that works based on a
    * {@link BindingSelection}, allowing provider instances for various bindings to be implemented
@@ -183,6 +220,14 @@ public final class RealMultibinder<T> implements Module {
       this.bindingSelection = bindingSelection;
     }
 
+    @Override
+    final boolean isCopyable() {
+      return true;
+    }
+
+    @Override
+    abstract BaseFactory<ValueT, ProvidedT> copy(Map<Object, Object> copies);
+
     @Override
     void initialize(InjectorImpl injector, Errors errors) throws ErrorsException {
       if (initialized) {
@@ -230,11 +275,22 @@ public final class RealMultibinder<T> implements Module {
     List<Binding<T>> bindings;
     SingleParameterInjector<T>[] injectors;
     boolean permitDuplicates;
+    /** The providers of the elements, if the set is provisioned lazily. */
+    ImmutableList<Provider<T>> providers;
+    /** Whether all the elements are constant, so the set can be provisioned once. */
+    boolean constant;
+    /** The set, once it's provisioned if it's constant. */
+    volatile ImmutableSet<T> constantSet;
 
     RealMultibinderProvider(BindingSelection<T> bindingSelection) {
       super(bindingSelection);
     }
 
+    @Override
+    RealMultibinderProvider<T> copy(Map<Object, Object> copies) {
+      return new RealMultibinderProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     public ImmutableSet<Dependency<?>> getDependencies() {
       return bindingSelection.getDependencies();
@@ -245,11 +301,48 @@ public final class RealMultibinder<T> implements Module {
       bindings = bindingSelection.getBindings();
       injectors = bindingSelection.getParameterInjectors();
       permitDuplicates = bindingSelection.permitsDuplicates();
+      if (bindingSelection.provisionsLazily() && injectors != null) {
+        ImmutableList.Builder<Provider<T>> providers = ImmutableList.builder();
+        for (Binding<T> binding : bindings) {
+          providers.add(binding.getProvider());
+        }
+        this.providers = providers.build();
+      }
+      constant = providers == null && bindingSelection.hasConstantElements();
     }
 
     @Override
-    protected ImmutableSet<T> doProvision(InternalContext context, Dependency<?> dependency)
+    protected Set<T> doProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
+      if (constant) {
+        return provisionConstant(context, dependency);
+      }
+      if (providers != null) {
+        return new LazySet();
+      }
+      return provision(context);
+    }
+
+    /**
+     * Provisions the set the first time it's requested, and then returns the same set, checked for
+     * duplicates once.
+     */
+    @Keep
+    ImmutableSet<T> provisionConstant(InternalContext context, Dependency<?> dependency)
+        throws InternalProvisionException {
+      ImmutableSet<T> local = constantSet;
+      if (local == null) {
+        local = provision(context);
+        // Singletons that are still being constructed are provided as circular proxies, which
+        // shouldn't outlive the provision that needed them.
+        if (!Iterables.any(local, BytecodeGen::isCircularProxy)) {
+          constantSet = local;
+        }
+      }
+      return local;
+    }
+
+    private ImmutableSet<T> provision(InternalContext context) throws InternalProvisionException {
       SingleParameterInjector<T>[] localInjectors = injectors;
       if (localInjectors == null) {
         // if localInjectors == null, then we have no bindings so return the empty set.
@@ -294,6 +387,22 @@ public final class RealMultibinder<T> implements Module {
       if (injectors == null) {
         return InternalMethodHandles.constantFactoryGetHandle(ImmutableSet.of());
       }
+      if (providers != null) {
+        // (InternalContext, Dependency) -> Object
+        return MethodHandles.dropArguments(
+            castReturnToObject(NEW_LAZY_SET_HANDLE.bindTo(this)),
+            0,
+            InternalContext.class,
+            Dependency.class);
+      }
+      if (constant) {
+        ImmutableSet<T> local = constantSet;
+        if (local != null) {
+          return InternalMethodHandles.constantFactoryGetHandle(local);
+        }
+        // (InternalContext, Dependency) -> Object
+        return castReturnToObject(PROVISION_CONSTANT_HANDLE.bindTo(this));
+      }
       // null check each element
       List<MethodHandle> elementHandles = new ArrayList<>(injectors.length);
       for (int i = 0; i < injectors.length; i++) {
@@ -378,6 +487,21 @@ public final class RealMultibinder<T> implements Module {
       return set;
     }
 
+    private static final MethodHandle PROVISION_CONSTANT_HANDLE =
+        InternalMethodHandles.findVirtualOrDie(
+            RealMultibinderProvider.class,
+            "provisionConstant",
+            methodType(ImmutableSet.class, InternalContext.class, Dependency.class));
+
+    private static final MethodHandle NEW_LAZY_SET_HANDLE =
+        InternalMethodHandles.findVirtualOrDie(
+            RealMultibinderProvider.class, "newLazySet", methodType(Set.class));
+
+    @Keep
+    Set<T> newLazySet() {
+      return new LazySet();
+    }
+
     private static final MethodHandle NULL_CHECK_RESULT_HANDLE =
         InternalMethodHandles.findStaticOrDie(
             RealMultibinderProvider.class,
@@ -420,6 +544,102 @@ public final class RealMultibinder<T> implements Module {
       return new InternalProvisionException(message);
     }
 
+    /**
+     * A set that provisions its elements as they're iterated over. Each element is provisioned the
+     * first time iteration reaches it, and kept for later iterations. Unless duplicates are
+     * permitted, iteration fails as soon as it reaches an element equal to an earlier one.
+     */
+    private final class LazySet extends AbstractSet<T> {
+      private final AtomicReferenceArray<T> values = new AtomicReferenceArray<>(providers.size());
+      private volatile ImmutableSet<T> materialized;
+
+      private T get(int index) {
+        T value = values.get(index);
+        if (value == null) {
+          value = providers.get(index).get();
+          if (value == null) {
+            throw newNullEntryException(index).toProvisionException();
+          }
+          // If another thread provisioned the element concurrently, use its value.
+          if (!values.compareAndSet(index, null, value)) {
+            value = values.get(index);
+          }
+        }
+        return value;
+      }
+
+      /** Returns the first {@code count} elements, which must have been provisioned. */
+      private T[] provisioned(int count) {
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) new Object[count];
+        for (int i = 0; i < count; i++) {
+          array[i] = values.get(i);
+        }
+        return array;
+      }
+
+      /** Provisions all the elements, and returns them in a set. */
+      private ImmutableSet<T> materialize() {
+        ImmutableSet<T> local = materialized;
+        if (local == null) {
+          @SuppressWarnings("unchecked")
+          T[] array = (T[]) new Object[providers.size()];
+          for (int i = 0; i < array.length; i++) {
+            array[i] = get(i);
+          }
+          local = ImmutableSet.<T>builderWithExpectedSize(array.length).add(array).build();
+          if (!permitDuplicates && local.size() < array.length) {
+            throw newDuplicateValuesException(array).toProvisionException();
+          }
+          materialized = local;
+        }
+        return local;
+      }
+
+      @Override
+      public Iterator<T> iterator() {
+        ImmutableSet<T> local = materialized;
+        if (local != null) {
+          return local.iterator();
+        }
+        return new AbstractIterator<T>() {
+          int next = 0;
+          final Set<T> seen = new HashSet<>();
+
+          @Override
+          protected T computeNext() {
+            while (next < providers.size()) {
+              T value = get(next++);
+              if (seen.add(value)) {
+                return value;
+              }
+              if (!permitDuplicates) {
+                throw newDuplicateValuesException(provisioned(next)).toProvisionException();
+              }
+            }
+            materialize();
+            return endOfData();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return materialize().size();
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return providers.isEmpty();
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        ImmutableSet<T> local = materialized;
+        return local != null ? local.contains(o) : super.contains(o);
+      }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <B, V> V acceptExtensionVisitor(
@@ -476,6 +696,11 @@ public final class RealMultibinder<T> implements Module {
       super(bindingSelection);
     }
 
+    @Override
+    RealMultibinderCollectionOfProvidersProvider<T> copy(Map<Object, Object> copies) {
+      return new RealMultibinderCollectionOfProvidersProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     public ImmutableSet<Dependency<?>> getDependencies() {
       return bindingSelection.getProviderDependencies();
@@ -522,6 +747,7 @@ public final class RealMultibinder<T> implements Module {
     private Key<Collection<jakarta.inject.Provider<T>>> collectionOfJakartaProvidersKey;
     private Key<Set<? extends T>> setOfExtendsKey;
     private Key<Boolean> permitDuplicatesKey;
+    private Key<Boolean> provisionLazilyKey;
 
     private boolean isInitialized;
     /* a binding for each element in the set. null until initialization, non-null afterwards */
@@ -534,6 +760,12 @@ public final class RealMultibinder<T> implements Module {
     /** whether duplicates are allowed. Possibly configured by a different instance */
     private boolean permitDuplicates;
 
+    /** whether the set is provisioned lazily. Possibly configured by a different instance */
+    private boolean provisionLazily;
+
+    /** whether all the elements are constant, see {@link RealMultibinder#isConstant} */
+    private boolean constantElements;
+
     private SingleParameterInjector<T>[] parameterinjectors;
 
     BindingSelection(Key<T> key) {
@@ -541,6 +773,16 @@ public final class RealMultibinder<T> implements Module {
       this.elementType = key.getTypeLiteral();
     }
 
+    /**
+     * Returns the uninitialized copy of this selection shared by the factories in {@code copies}.
+     */
+    @SuppressWarnings("unchecked") // copies maps each selection to a selection of the same type
+    BindingSelection<T> copy(Map<Object, Object> copies) {
+      return (BindingSelection<T>)
+          copies.computeIfAbsent(
+              this, unused -> new BindingSelection<>(setKey.ofType(elementType)));
+    }
+
     void initialize(InjectorImpl injector, Errors errors) throws ErrorsException {
       // This will be called multiple times, once by each Factory. We only want
       // to do the work to initialize everything once, so guard this code with
@@ -580,6 +822,15 @@ public final class RealMultibinder<T> implements Module {
       this.dependencies = ImmutableSet.copyOf(dependencies);
       this.providerDependencies = ImmutableSet.copyOf(providerDependencies);
       this.permitDuplicates = permitsDuplicates(injector);
+      this.provisionLazily = provisionsLazily(injector);
+      boolean constantElements = true;
+      for (Binding<T> binding : bindings) {
+        if (!isConstant(injector, binding)) {
+          constantElements = false;
+          break;
+        }
+      }
+      this.constantElements = constantElements;
       // This is safe because all our dependencies are assignable to T and we never assign to
       // elements of this array.
       @SuppressWarnings("unchecked")
@@ -593,6 +844,10 @@ public final class RealMultibinder<T> implements Module {
       return injector.getBindings().containsKey(getPermitDuplicatesKey());
     }
 
+    boolean provisionsLazily(Injector injector) {
+      return injector.getBindings().containsKey(getProvisionLazilyKey());
+    }
+
     ImmutableList<Binding<T>> getBindings() {
       checkConfiguration(isInitialized(), "not initialized");
       return bindings;
@@ -628,6 +883,15 @@ public final class RealMultibinder<T> implements Module {
       return local;
     }
 
+    Key<Boolean> getProvisionLazilyKey() {
+      Key<Boolean> local = provisionLazilyKey;
+      if (local == null) {
+        local =
+            provisionLazilyKey = Key.get(Boolean.class, named(toString() + " provisions lazily"));
+      }
+      return local;
+    }
+
     Key<Collection<Provider<T>>> getCollectionOfProvidersKey() {
       Key<Collection<Provider<T>>> local = collectionOfProvidersKey;
       if (local == null) {
@@ -686,11 +950,22 @@ public final class RealMultibinder<T> implements Module {
       }
     }
 
+    boolean provisionsLazily() {
+      checkConfiguration(isInitialized(), "not initialized");
+      return provisionLazily;
+    }
+
+    boolean hasConstantElements() {
+      checkConfiguration(isInitialized(), "not initialized");
+      return constantElements;
+    }
+
     boolean containsElement(com.google.inject.spi.Element element) {
       if (element instanceof Binding) {
         Binding<?> binding = (Binding<?>) element;
         return keyMatches(binding.getKey())
             || binding.getKey().equals(getPermitDuplicatesKey())
+            || binding.getKey().equals(getProvisionLazilyKey())
             || binding.getKey().equals(setKey)
             || binding.getKey().equals(collectionOfProvidersKey)
             || binding.getKey().equals(collectionOfJakartaProvidersKey)
@@ -741,17 +1016,18 @@ public final class RealMultibinder<T> implements Module {
   }
 
   /**
-   * We install the permit duplicates configuration as its own binding, all by itself. This way, if
-   * only one of a multibinder's users remember to call permitDuplicates(), they're still permitted.
+   * We install each configuration option, such as permitting duplicates, as its own binding, all by
+   * itself. This way, if only one of a multibinder's users remember to call permitDuplicates(),
+   * they're still permitted.
    *
    * <p>This is like setting a global variable in the injector so that each instance of the
    * multibinder will have the same value for permitDuplicates, even if it is only set on one of
    * them.
    */
-  private static class PermitDuplicatesModule extends AbstractModule {
+  private static class OptionModule extends AbstractModule {
     private final Key<Boolean> key;
 
-    PermitDuplicatesModule(Key<Boolean> key) {
+    OptionModule(Key<Boolean> key) {
       this.key = key;
     }
 
@@ -762,7 +1038,7 @@ public final class RealMultibinder<T> implements Module {
 
     @Override
     public boolean equals(Object o) {
-      return o instanceof PermitDuplicatesModule && ((PermitDuplicatesModule) o).key.equals(key);
+      return o instanceof OptionModule && ((OptionModule) o).key.equals(key);
     }
 
     @Override
@@ -49,6 +49,7 @@ import java.lang.annotation.Retention;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
 import jakarta.inject.Qualifier;
@@ -249,6 +250,11 @@ public final class RealOptionalBinder<T> implements Module {
       this.optionalKey = optionalKey;
     }
 
+    @Override
+    JavaOptionalProvider<T> copy(Map<Object, Object> copies) {
+      return new JavaOptionalProvider<>(bindingSelection.copy(copies), optionalKey);
+    }
+
     @Override
     void doInitialize() {
       if (bindingSelection.getBinding() != null) {
@@ -365,6 +371,11 @@ public final class RealOptionalBinder<T> implements Module {
       super(bindingSelection);
     }
 
+    @Override
+    JavaOptionalProviderProvider<T> copy(Map<Object, Object> copies) {
+      return new JavaOptionalProviderProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     void doInitialize() {
       if (bindingSelection.getBinding() == null) {
@@ -408,6 +419,11 @@ public final class RealOptionalBinder<T> implements Module {
       super(bindingSelection);
     }
 
+    @Override
+    RealDirectTypeProvider<T> copy(Map<Object, Object> copies) {
+      return new RealDirectTypeProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     void doInitialize() {
       BindingImpl<T> targetBinding = bindingSelection.getBinding();
@@ -453,6 +469,11 @@ public final class RealOptionalBinder<T> implements Module {
       super(bindingSelection);
     }
 
+    @Override
+    RealOptionalProviderProvider<T> copy(Map<Object, Object> copies) {
+      return new RealOptionalProviderProvider<>(bindingSelection.copy(copies));
+    }
+
     @Override
     void doInitialize() {
       if (bindingSelection.getBinding() == null) {
@@ -501,6 +522,11 @@ public final class RealOptionalBinder<T> implements Module {
       this.optionalKey = optionalKey;
     }
 
+    @Override
+    RealOptionalKeyProvider<T> copy(Map<Object, Object> copies) {
+      return new RealOptionalKeyProvider<>(bindingSelection.copy(copies), optionalKey);
+    }
+
     @Override
     void doInitialize() {
       if (bindingSelection.getBinding() != null) {
@@ -647,6 +673,15 @@ public final class RealOptionalBinder<T> implements Module {
       this.key = key;
     }
 
+    /**
+     * Returns the uninitialized copy of this selection shared by the factories in {@code copies}.
+     */
+    @SuppressWarnings("unchecked") // copies maps each selection to a selection of the same type
+    BindingSelection<T> copy(Map<Object, Object> copies) {
+      return (BindingSelection<T>)
+          copies.computeIfAbsent(this, unused -> new BindingSelection<>(key));
+    }
+
     void checkNotInitialized() {
       checkConfiguration(state == InitializationState.UNINITIALIZED, "already initialized");
     }
@@ -825,6 +860,14 @@ public final class RealOptionalBinder<T> implements Module {
       this.bindingSelection = bindingSelection;
     }
 
+    @Override
+    final boolean isCopyable() {
+      return true;
+    }
+
+    @Override
+    abstract RealOptionalBinderProviderWithDependencies<T, P> copy(Map<Object, Object> copies);
+
     @Override
     final void initialize(InjectorImpl injector, Errors errors) throws ErrorsException {
       if (!initialized) {
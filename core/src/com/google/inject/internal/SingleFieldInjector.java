@@ -19,6 +19,7 @@ package com.google.inject.internal;
 import static com.google.inject.internal.InternalMethodHandles.castReturnTo;
 import static java.lang.invoke.MethodType.methodType;
 
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.google.inject.internal.InjectorImpl.JitLimitation;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.InjectionPoint;
@@ -34,6 +35,9 @@ final class SingleFieldInjector implements SingleMemberInjector {
   final Dependency<?> dependency;
   final InternalFactory<?> factory;
 
+  /** The constant value of {@link #factory}, if it has one. See {@link SingleParameterInjector}. */
+  @LazyInit private volatile Object constantValue;
+
   public SingleFieldInjector(InjectorImpl injector, InjectionPoint injectionPoint, Errors errors)
       throws ErrorsException {
     this.injectionPoint = injectionPoint;
@@ -56,7 +60,11 @@ final class SingleFieldInjector implements SingleMemberInjector {
   @Override
   public void inject(InternalContext context, Object o) throws InternalProvisionException {
     try {
-      Object value = factory.get(context, dependency, /* linked= */ false);
+      Object value = constantValue;
+      if (value == null) {
+        value = factory.get(context, dependency, /* linked= */ false);
+        constantValue = factory.getConstantValue();
+      }
       field.set(o, value);
     } catch (InternalProvisionException e) {
       throw e.addSource(dependency);
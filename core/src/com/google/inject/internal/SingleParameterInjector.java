@@ -31,18 +31,30 @@ final class SingleParameterInjector<T> {
   private final InternalFactory<? extends T> factory;
   @LazyInit private MethodHandle handle;
 
+  /**
+   * The value of {@link InternalFactory#getConstantValue} once the factory has settled on one, so
+   * that steady state injection of singleton-like values is a single field read.
+   */
+  @LazyInit private volatile T constantValue;
+
   SingleParameterInjector(Dependency<T> dependency, BindingImpl<? extends T> binding) {
     this.dependency = dependency;
     this.factory = binding.getInternalFactory();
   }
 
   T inject(InternalContext context) throws InternalProvisionException {
+    T value = constantValue;
+    if (value != null) {
+      return value;
+    }
     Dependency<T> localDependency = dependency;
     try {
-      return factory.get(context, localDependency, false);
+      value = factory.get(context, localDependency, false);
     } catch (InternalProvisionException ipe) {
       throw ipe.addSource(localDependency);
     }
+    constantValue = factory.getConstantValue();
+    return value;
   }
 
   /**
@@ -76,15 +88,8 @@ final class SingleParameterInjector<T> {
     Object[] parameters = new Object[size];
 
     // optimization: use manual for/each to save allocating an iterator here
-    Dependency<?> dependency = null;
-    try {
     for (int i = 0; i < size; i++) {
-        SingleParameterInjector<?> injector = parameterInjectors[i];
-        dependency = injector.dependency;
-        parameters[i] = injector.factory.get(context, dependency, false);
-      }
-    } catch (InternalProvisionException ipe) {
-      throw ipe.addSource(dependency);
+      parameters[i] = parameterInjectors[i].inject(context);
     }
     return parameters;
   }
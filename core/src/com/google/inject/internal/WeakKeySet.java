@@ -17,17 +17,16 @@
 package com.google.inject.internal;
 
 import com.google.common.base.Objects;
-import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
-import com.google.common.collect.Sets;
 import com.google.inject.Key;
 import com.google.inject.internal.util.SourceProvider;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,39 +37,30 @@ import java.util.Set;
  */
 final class WeakKeySet {
 
-  private Map<Key<?>, Multiset<Object>> backingMap;
+  /** Represents a null source in the backing map. */
+  private static final Object NULL_SOURCE = new Object();
 
   /**
-   * This is already locked externally on add and getSources but we need it to handle clean up in
-   * the evictionCache's RemovalListener.
+   * Maps each key to its source, or to a {@link Sources} if it was banned more than once. Most
+   * keys are only banned by a single child injector, so this saves allocating a multiset for each.
+   */
+  private Map<Key<?>, Object> backingMap;
+
+  /**
+   * This is already locked externally on add and getSources but we need it to handle clean up of
+   * collected child injectors.
    */
   private final Object lock;
 
   /**
    * Tracks child injector lifetimes and evicts banned keys/sources after the child injector is
-   * garbage collected.
+   * garbage collected. Only created once a child bans a key, since most injectors (including all
+   * leaf injectors) never get any.
    */
-  private final Cache<InjectorBindingData, Set<KeyAndSource>> evictionCache =
-      CacheBuilder.newBuilder().weakKeys().removalListener(this::cleanupOnRemoval).build();
-
-  private void cleanupOnRemoval(
-      RemovalNotification<InjectorBindingData, Set<KeyAndSource>> notification) {
-    Preconditions.checkState(RemovalCause.COLLECTED.equals(notification.getCause()));
+  private Map<InjectorBindingData, ChildBans> childBans;
 
-    // There may be multiple child injectors banning a certain key so only remove the source
-    // that's relevant.
-    synchronized (lock) {
-      for (KeyAndSource keyAndSource : notification.getValue()) {
-        Multiset<Object> set = backingMap.get(keyAndSource.key);
-        if (set != null) {
-          set.remove(keyAndSource.source);
-          if (set.isEmpty()) {
-            backingMap.remove(keyAndSource.key);
-          }
-        }
-      }
-    }
-  }
+  /** Receives the {@link ChildBans} of child injectors once they are garbage collected. */
+  private ReferenceQueue<InjectorBindingData> collectedChildren;
 
   WeakKeySet(Object lock) {
     this.lock = lock;
@@ -86,55 +76,113 @@ final class WeakKeySet {
       source = null;
     }
     Object convertedSource = Errors.convert(source);
-    backingMap.computeIfAbsent(key, k -> LinkedHashMultiset.create()).add(convertedSource);
+    addSource(key, convertedSource);
 
     // Avoid all the extra work if we can.
     if (state.parent().isPresent()) {
-      Set<KeyAndSource> keyAndSources = evictionCache.getIfPresent(state);
-      if (keyAndSources == null) {
-        evictionCache.put(state, keyAndSources = Sets.newHashSet());
+      if (childBans == null) {
+        childBans = new MapMaker().weakKeys().makeMap();
+        collectedChildren = new ReferenceQueue<>();
       }
-      keyAndSources.add(new KeyAndSource(key, convertedSource));
+      ChildBans bans = childBans.get(state);
+      if (bans == null) {
+        bans = new ChildBans(state, collectedChildren);
+        childBans.put(state, bans);
+      }
+      bans.add(key, convertedSource);
     }
   }
 
   public boolean contains(Key<?> key) {
-    evictionCache.cleanUp();
+    cleanUpCollectedChildren();
     return backingMap != null && backingMap.containsKey(key);
   }
 
   public Set<Object> getSources(Key<?> key) {
-    evictionCache.cleanUp();
-    Multiset<Object> sources = (backingMap == null) ? null : backingMap.get(key);
-    return (sources == null) ? null : sources.elementSet();
+    cleanUpCollectedChildren();
+    Object sources = (backingMap == null) ? null : backingMap.get(key);
+    if (sources == null) {
+      return null;
+    } else if (sources instanceof Sources) {
+      return ((Sources) sources).sources.elementSet();
+    } else {
+      return Collections.singleton(unwrap(sources));
+    }
   }
 
-  private static final class KeyAndSource {
-    final Key<?> key;
-    final Object source;
-
-    KeyAndSource(Key<?> key, Object source) {
-      this.key = key;
-      this.source = source;
+  private void addSource(Key<?> key, Object source) {
+    Object existing = backingMap.putIfAbsent(key, source == null ? NULL_SOURCE : source);
+    if (existing instanceof Sources) {
+      ((Sources) existing).sources.add(source);
+    } else if (existing != null) {
+      Sources sources = new Sources();
+      sources.sources.add(unwrap(existing));
+      sources.sources.add(source);
+      backingMap.put(key, sources);
     }
+  }
 
-    @Override
-    public int hashCode() {
-      return Objects.hashCode(key, source);
+  private void removeSource(Key<?> key, Object source) {
+    // There may be multiple child injectors banning a certain key so only remove the source
+    // that's relevant.
+    Object existing = backingMap.get(key);
+    if (existing instanceof Sources) {
+      Multiset<Object> sources = ((Sources) existing).sources;
+      sources.remove(source);
+      if (sources.isEmpty()) {
+        backingMap.remove(key);
+      }
+    } else if (existing != null && Objects.equal(unwrap(existing), source)) {
+      backingMap.remove(key);
     }
+  }
 
-    @Override
-    public boolean equals(Object obj) {
-      if (this == obj) {
-        return true;
-      }
+  private static Object unwrap(Object source) {
+    return source == NULL_SOURCE ? null : source;
+  }
 
-      if (!(obj instanceof KeyAndSource)) {
-        return false;
+  /**
+   * Removes the keys banned by child injectors that were garbage collected since the last call.
+   * Polling an empty reference queue is cheap, so this adds next to nothing to lookups.
+   */
+  private void cleanUpCollectedChildren() {
+    if (collectedChildren == null) {
+      return;
+    }
+    for (ChildBans bans; (bans = (ChildBans) collectedChildren.poll()) != null; ) {
+      synchronized (lock) {
+        for (int i = 0; i < bans.size; i += 2) {
+          removeSource((Key<?>) bans.keysAndSources[i], bans.keysAndSources[i + 1]);
+        }
+        // The map of child bans only purges its collected entries lazily, don't retain the keys
+        // and sources until then.
+        bans.keysAndSources = null;
+        bans.size = 0;
       }
+    }
+  }
+
+  /** The keys (and their sources) banned by a single child injector. */
+  private static final class ChildBans extends WeakReference<InjectorBindingData> {
+    // Alternating keys and sources, which is much more compact than a set of pairs.
+    Object[] keysAndSources = new Object[4];
+    int size;
+
+    ChildBans(InjectorBindingData state, ReferenceQueue<InjectorBindingData> queue) {
+      super(state, queue);
+    }
 
-      KeyAndSource other = (KeyAndSource) obj;
-      return Objects.equal(key, other.key) && Objects.equal(source, other.source);
+    void add(Key<?> key, Object source) {
+      if (size == keysAndSources.length) {
+        keysAndSources = Arrays.copyOf(keysAndSources, size * 2);
+      }
+      keysAndSources[size++] = key;
+      keysAndSources[size++] = source;
     }
   }
+
+  /** The sources of a key banned by several child injectors. */
+  private static final class Sources {
+    final Multiset<Object> sources = LinkedHashMultiset.create();
+  }
 }
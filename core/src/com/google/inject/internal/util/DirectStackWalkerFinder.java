@@ -1,5 +1,8 @@
 package com.google.inject.internal.util;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 /** A CallerFinder directly compiled against StackWalker. Requires compiling against jdk11+. */
@@ -7,11 +10,70 @@ final class DirectStackWalkerFinder implements CallerFinder {
   private static final StackWalker WALKER =
       StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
+  /**
+   * Caches the {@link StackTraceElement} of each call site, per declaring class.
+   *
+   * <p>Converting a frame to a {@link StackTraceElement} dominates the cost of finding the caller,
+   * and modules typically create many elements from the same few call sites (e.g. loops, helper
+   * methods or modules installed by several injectors). Since the cache hangs off the class it is
+   * released together with the class and does not pin class loaders.
+   */
+  private static final ClassValue<ConcurrentMap<CallSite, StackTraceElement>> CALL_SITES =
+      new ClassValue<ConcurrentMap<CallSite, StackTraceElement>>() {
+        @Override
+        protected ConcurrentMap<CallSite, StackTraceElement> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   @Override
   public StackTraceElement findCaller(Predicate<String> shouldBeSkipped) {
     return WALKER
         .walk(s -> s.skip(2).filter(f -> !shouldBeSkipped.test(f.getClassName())).findFirst())
-        .map(StackWalker.StackFrame::toStackTraceElement)
+        .map(DirectStackWalkerFinder::toStackTraceElement)
         .orElseThrow(AssertionError::new);
   }
+
+  private static StackTraceElement toStackTraceElement(StackWalker.StackFrame frame) {
+    ConcurrentMap<CallSite, StackTraceElement> callSites =
+        CALL_SITES.get(frame.getDeclaringClass());
+    CallSite callSite =
+        new CallSite(frame.getMethodName(), frame.getDescriptor(), frame.getByteCodeIndex());
+    StackTraceElement element = callSites.get(callSite);
+    if (element == null) {
+      element = frame.toStackTraceElement();
+      callSites.putIfAbsent(callSite, element);
+    }
+    return element;
+  }
+
+  /** Identifies a call site within its declaring class. */
+  private static final class CallSite {
+    final String methodName;
+    final String descriptor;
+    final int byteCodeIndex;
+
+    CallSite(String methodName, String descriptor, int byteCodeIndex) {
+      this.methodName = methodName;
+      this.descriptor = descriptor;
+      this.byteCodeIndex = byteCodeIndex;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof CallSite)) {
+        return false;
+      }
+      CallSite other = (CallSite) obj;
+      return byteCodeIndex == other.byteCodeIndex
+          && methodName.equals(other.methodName)
+          && descriptor.equals(other.descriptor);
+    }
+
+    @Override
+    public int hashCode() {
+      // Computed for every cache lookup, so avoid the boxing and varargs array of Objects.hash.
+      return 31 * (31 * methodName.hashCode() + descriptor.hashCode()) + byteCodeIndex;
+    }
+  }
 }
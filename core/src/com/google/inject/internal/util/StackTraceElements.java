@@ -32,14 +32,22 @@ import java.util.concurrent.ConcurrentMap;
  */
 public final class StackTraceElements {
 
+  private static final int MAX_CACHED_LINE_NUMBERS = 1000;
+
   private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
   private static final InMemoryStackTraceElement[] EMPTY_INMEMORY_STACK_TRACE =
       new InMemoryStackTraceElement[0];
 
+  /**
+   * The line numbers of classes, shared by all injectors. Reading them means parsing the class
+   * file, so they're kept for the classes most recently used in error messages, but no more than
+   * {@link #MAX_CACHED_LINE_NUMBERS} of them.
+   */
   static final LoadingCache<Class<?>, LineNumbers> lineNumbersCache =
       CacheBuilder.newBuilder()
           .weakKeys()
           .softValues()
+          .maximumSize(MAX_CACHED_LINE_NUMBERS)
           .build(
               new CacheLoader<Class<?>, LineNumbers>() {
                 @Override
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.multibindings;
+
+import com.google.inject.Provider;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Provides the values of a {@link MapBinder} one key at a time. Every map binder binds a {@code
+ * KeyedProvider<K, V>} with the same annotation as its {@code Map<K, V>}:
+ *
+ * <pre><code>
+ * public class SnackMachine {
+ *   {@literal @}Inject
+ *   public SnackMachine(KeyedProvider&lt;String, Snack&gt; snacks) {
+ *     Snack twix = snacks.get("twix");
+ *     ...
+ *   }
+ * }</code></pre>
+ *
+ * <p>Unlike {@code Map<K, V>}, nothing is provisioned until a value is requested, and unlike {@code
+ * Map<K, Provider<V>>}, the lookup structure is built for the keys once, the first time the keyed
+ * provider is injected. Enum keys and dense ranges of integer keys are looked up by indexing an
+ * array.
+ *
+ * <p>Values are provisioned each time they're requested, with the scoping they were bound with.
+ * If duplicates are {@linkplain MapBinder#permitDuplicates permitted}, the value of a key bound
+ * several times is the one in the {@code Map<K, V>}.
+ *
+ * @param <K> the type of the map's keys
+ * @param <V> the type of the map's values
+ * @since 7.1
+ */
+public interface KeyedProvider<K, V> {
+
+  /** Returns the keys that have a value, in the order they were bound. */
+  Set<K> keySet();
+
+  /** Returns the provider of the value of {@code key}, or null if it has no value. */
+  @Nullable
+  Provider<V> getProvider(K key);
+
+  /**
+   * Provisions the value of {@code key}, or returns null if it has no value.
+   *
+   * @throws com.google.inject.ProvisionException if the value can't be provisioned, or is null
+   */
+  @Nullable
+  V get(K key);
+}
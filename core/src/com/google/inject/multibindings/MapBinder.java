@@ -58,6 +58,12 @@ import java.util.Map;
  *   public SnackMachine(Map&lt;String, Provider&lt;Snack&gt;&gt; snackProviders) { ... }
  * }</code></pre>
  *
+ * <p>Since 7.1, a mapbinder also binds a {@link KeyedProvider}{@code <K, V>}, which provisions
+ * values one key at a time. This binding is reported by {@link
+ * com.google.inject.Injector#getAllBindings} and {@link com.google.inject.spi.Elements}, and shown
+ * by tools such as the grapher, along with the other bindings of the mapbinder. Its lookup
+ * structure is only built if it's injected.
+ *
  * <p>Contributing mapbindings from different modules is supported. For example, it is okay to have
  * both {@code CandyModule} and {@code ChipsModule} both create their own {@code MapBinder<String,
  * Snack>}, and to each contribute bindings to the snacks map. When that map is injected, it will
@@ -180,6 +186,29 @@ public class MapBinder<K, V> {
     return this;
   }
 
+  /**
+   * Configures the bound {@code Map<K, V>} to provision its values lazily, as they're looked up,
+   * rather than when the map is injected. This helps consumers that only look up a few of many
+   * keys.
+   *
+   * <p>Each injected map provisions the value of a key the first time it's looked up, with the
+   * value's usual scoping, and keeps it for later lookups. Iterating over the map's entries or
+   * values provisions them in order, while its keys are available without provisioning anything.
+   * Errors provisioning a value are thrown as a {@link com.google.inject.ProvisionException} by the
+   * map's methods.
+   *
+   * <p>The {@code Map<K, Provider<V>>} and the {@code Map<K, Set<V>>} bound by {@link
+   * #permitDuplicates} aren't affected. When multiple modules contribute elements to the map, this
+   * configuration option impacts all of them.
+   *
+   * @return this map binder
+   * @since 7.1
+   */
+  public MapBinder<K, V> provisionLazily() {
+    delegate.provisionLazily();
+    return this;
+  }
+
   /**
    * Returns a binding builder used to add a new entry in the map. Each key must be distinct (and
    * non-null). Bound providers will be evaluated each time the map is injected.
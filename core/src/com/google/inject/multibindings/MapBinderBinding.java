@@ -52,7 +52,8 @@ public interface MapBinderBinding<T> {
    * {@code Map<K, com.google.inject.Provider<V>>}, {@code Map<K, jakarta.inject.Provider<V>>}, {@code
    * Map<K, Set<com.google.inject.Provider<V>>>}, {@code Map<K, Set<jakarta.inject.Provider<V>>>},
    * {@code Map<K, Collection<com.google.inject.Provider<V>>>}, {@code Map<K,
-   * Collection<jakarta.inject.Provider<V>>>}, {@code Map<K, Set<V>}, and {@code Map<K, ? extends V>}.
+   * Collection<jakarta.inject.Provider<V>>>}, {@code Map<K, Set<V>}, {@code Map<K, ? extends V>},
+   * and {@code KeyedProvider<K, V>}.
    *
    * @since 4.2.3
    */
@@ -165,6 +165,26 @@ public class Multibinder<T> {
     return this;
   }
 
+  /**
+   * Configures the bound set to provision its elements lazily, as it's iterated over, rather than
+   * when it's injected. This helps consumers that only look at a few of many elements.
+   *
+   * <p>Each injected set provisions an element the first time iteration reaches it, with the
+   * element's usual scoping, and keeps it for later iterations. Errors provisioning an element are
+   * thrown as a {@link com.google.inject.ProvisionException} by the set's methods. Unless {@link
+   * #permitDuplicates} is configured, iteration fails as soon as it reaches an element equal to an
+   * earlier one, and methods such as {@link Set#size} that need all the elements fail if any are
+   * equal. When multiple modules contribute elements to the set, this configuration option impacts
+   * all of them.
+   *
+   * @return this multibinder
+   * @since 7.1
+   */
+  public Multibinder<T> provisionLazily() {
+    delegate.provisionLazily();
+    return this;
+  }
+
   /**
    * Returns a binding builder used to add a new element in the set. Each bound element must have a
    * distinct value. Bound providers will be evaluated each time the set is injected.
@@ -16,6 +16,7 @@ import com.google.inject.internal.GuiceInternal;
 import java.util.regex.Pattern;
 import java.lang.annotation.Annotation;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Formatter;
@@ -286,6 +287,9 @@ public final class BindingSourceRestriction {
 
     final PermitMapImpl permitMap = new PermitMapImpl();
 
+    // Constructions of separately recorded module trees that were merged into this one.
+    final List<PermitMapConstruction> mergedConstructions = new ArrayList<>();
+
     /**
      * Returns a possibly unfinished map. The map should only be used after the construction is
      * finished.
@@ -306,7 +310,7 @@ public final class BindingSourceRestriction {
     /** Called by the Binder prior to entering a module's configure method. */
     void pushModule(Class<?> module, ModuleSource moduleSource) {
       List<Class<? extends Annotation>> newModulePermits =
-          getPermits(module)
+          getPermits(module).stream()
               .filter(permit -> !currentModulePermits.contains(permit))
               .collect(toList());
       // Save the parent module's permits so that they can be restored when the Binder exits this
@@ -328,9 +332,25 @@ public final class BindingSourceRestriction {
       currentModulePermits = modulePermitsStack.pop();
     }
 
+    /**
+     * Merges the permits of a separately recorded module tree into this construction. The maps of
+     * both constructions are finished with the combined permits when this one is finished.
+     */
+    void merge(PermitMapConstruction other) {
+      modulePermits.putAll(other.modulePermits);
+      mergedConstructions.add(other);
+    }
+
     /** Finishes the {@link PermitMap}. Called by the Binder when all modules are installed. */
     void finish() {
+      // Pick up permits of modules installed while scanning private modules of merged trees.
+      for (PermitMapConstruction other : mergedConstructions) {
+        modulePermits.putAll(other.modulePermits);
+      }
       permitMap.modulePermits = modulePermits;
+      for (PermitMapConstruction other : mergedConstructions) {
+        other.permitMap.modulePermits = modulePermits;
+      }
     }
 
     @VisibleForTesting
@@ -340,7 +360,23 @@ public final class BindingSourceRestriction {
     }
   }
 
-  private static Stream<Class<? extends Annotation>> getPermits(Class<?> clazz) {
+  /**
+   * Caches the permits of each module and scanner class. Reading the annotations of an anonymous
+   * class's superclass is expensive, and the same few classes are installed by every injector.
+   */
+  private static final ClassValue<ImmutableSet<Class<? extends Annotation>>> PERMITS =
+      new ClassValue<ImmutableSet<Class<? extends Annotation>>>() {
+        @Override
+        protected ImmutableSet<Class<? extends Annotation>> computeValue(Class<?> clazz) {
+          return findPermits(clazz).collect(ImmutableSet.toImmutableSet());
+        }
+      };
+
+  private static ImmutableSet<Class<? extends Annotation>> getPermits(Class<?> clazz) {
+    return PERMITS.get(clazz);
+  }
+
+  private static Stream<Class<? extends Annotation>> findPermits(Class<?> clazz) {
     Stream<Annotation> annotations = Arrays.stream(clazz.getAnnotations());
     // Pick up annotations on anonymous classes (e.g. new @Bar Foo() { ... }):
     if (clazz.getAnnotatedSuperclass() != null) {
@@ -19,7 +19,9 @@ package com.google.inject.spi;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.inject.internal.InternalFlags.getIncludeStackTraceOption;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -44,10 +46,12 @@ import com.google.inject.binder.AnnotatedElementBuilder;
 import com.google.inject.internal.AbstractBindingBuilder;
 import com.google.inject.internal.BindingBuilder;
 import com.google.inject.internal.ConstantBindingBuilderImpl;
+import com.google.inject.internal.ElementReplayer;
 import com.google.inject.internal.Errors;
 import com.google.inject.internal.ExposureBuilder;
 import com.google.inject.internal.GuiceInternal;
 import com.google.inject.internal.InternalClassesToSkipSources;
+import com.google.inject.internal.InternalFlags;
 import com.google.inject.internal.InternalFlags.IncludeStackTraceOption;
 import com.google.inject.internal.MoreTypes;
 import com.google.inject.internal.PrivateElementsImpl;
@@ -69,6 +73,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.annotation.Nullable;
 import org.aopalliance.intercept.MethodInterceptor;
 
 /**
@@ -111,8 +124,16 @@ public final class Elements {
   /** Records the elements executed by {@code modules}. */
   public static List<Element> getElements(Stage stage, Iterable<? extends Module> modules) {
     RecordingBinder binder = new RecordingBinder(stage);
-    for (Module module : modules) {
-      binder.install(module);
+    if (InternalFlags.isParallelModuleRecordingEnabled()
+        && !(Thread.currentThread() instanceof ModuleRecorderThread)) {
+      // Duplicate top-level modules are ignored anyway, so don't record them twice. Modules that
+      // create injectors while they're being recorded concurrently are recorded serially, so that
+      // they can't wait on the recorder threads they're holding.
+      binder.installAllConcurrently(ImmutableSet.<Module>copyOf(modules).asList());
+    } else {
+      for (Module module : modules) {
+        binder.install(module);
+      }
     }
     binder.scanForAnnotatedMethods();
     for (RecordingBinder child : binder.privateBindersForScanning) {
@@ -175,11 +196,210 @@ public final class Elements {
     return new ElementsAsModule(elements);
   }
 
+  /**
+   * Returns a module that records {@code modules} once and replays the recorded elements into each
+   * injector it's installed in. This skips running {@link Module#configure} and scanning the
+   * modules for provider methods when the same modules are used to create many injectors, such as
+   * in tests or servers creating an injector per tenant.
+   *
+   * <p>The modules are recorded the first time the returned module is installed in a given {@link
+   * Stage}, and the errors found while recording them are reported by every injector. Elements
+   * recorded once are shared by all injectors, so:
+   *
+   * <ul>
+   *   <li>Instances bound with {@code toInstance} are shared, while provider methods and
+   *       multibinders are bound separately to each injector.
+   *   <li>Scopes, listeners and interceptors are shared. A custom scope that holds on to the
+   *       objects it scopes holds on to those of every injector.
+   *   <li>{@link ModuleAnnotatedMethodScanner Scanners} installed outside of {@code modules} aren't
+   *       applied to them, since they were already scanned.
+   * </ul>
+   *
+   * <p>Elements that would tie objects of the modules to a single injector can't be shared, and are
+   * reported as errors by every injector created with the returned module. These are instances
+   * and providers with members to inject, providers bound with {@code toProvider} other than
+   * provider methods and multibinders, {@link Binder#requestInjection injection requests}, and
+   * lookups such as {@link Binder#getProvider}. Install such modules without freezing them.
+   *
+   * @since 7.1
+   */
+  public static Module freeze(Module... modules) {
+    return freeze(Arrays.asList(modules));
+  }
+
+  /**
+   * Returns a module that records {@code modules} once and replays the recorded elements into each
+   * injector it's installed in. See {@link #freeze(Module...)}.
+   *
+   * @since 7.1
+   */
+  public static Module freeze(Iterable<? extends Module> modules) {
+    return new FrozenModule(ImmutableList.copyOf(modules));
+  }
+
+  private static final class FrozenModule implements Module {
+    private final ImmutableList<Module> modules;
+    private final Map<Stage, ImmutableList<Element>> elementsByStage = new ConcurrentHashMap<>();
+
+    FrozenModule(ImmutableList<Module> modules) {
+      this.modules = modules;
+    }
+
+    @Override
+    public void configure(Binder binder) {
+      ImmutableList<Element> elements =
+          elementsByStage.computeIfAbsent(
+              binder.currentStage(), stage -> ImmutableList.copyOf(getElements(stage, modules)));
+      Element nonReplayable = ElementReplayer.findNonReplayable(elements);
+      if (nonReplayable != null) {
+        binder
+            .withSource(nonReplayable.getSource())
+            .addError(
+                "%s can't share %s between injectors. Install the modules without freezing them.",
+                this,
+                nonReplayable);
+        for (Element element : elements) {
+          if (element instanceof Message) {
+            element.applyTo(binder);
+          }
+        }
+        return;
+      }
+      ElementReplayer replayer = new ElementReplayer();
+      for (Element element : elements) {
+        replayer.replay(element, binder);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "Elements.freeze(" + modules + ")";
+    }
+  }
+
   @SuppressWarnings("unchecked")
   static <T> BindingTargetVisitor<T, T> getInstanceVisitor() {
     return (BindingTargetVisitor<T, T>) GET_INSTANCE_VISITOR;
   }
 
+  /**
+   * Records a top-level module into a binder of its own. When recording concurrently, the frame of
+   * this class marks the bottom of the module stack, see {@link RecordingBinder#getElementSource}.
+   */
+  /**
+   * Records a top-level module on a recorder thread, with the context class loader of the thread
+   * that created the recorder.
+   */
+  private static final class TopLevelModuleRecorder implements Function<Module, RecordingBinder> {
+    private final Stage stage;
+    private final ClassLoader contextClassLoader;
+
+    TopLevelModuleRecorder(Stage stage) {
+      this.stage = stage;
+      this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public RecordingBinder apply(Module module) {
+      Thread thread = Thread.currentThread();
+      ClassLoader previous = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+      try {
+        RecordingBinder binder = new RecordingBinder(stage, Lists.newArrayList());
+        binder.install(module);
+        return binder;
+      } finally {
+        thread.setContextClassLoader(previous);
+      }
+    }
+  }
+
+  /**
+   * A thread that records top-level modules concurrently. Guice uses its own threads rather than
+   * the common fork-join pool, so that modules that block don't hold up unrelated work.
+   */
+  private static final class ModuleRecorderThread extends Thread {
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    ModuleRecorderThread(Runnable runnable) {
+      super(runnable, "guice-module-recorder-" + threadCount.incrementAndGet());
+      setDaemon(true);
+    }
+
+    // initialization-on-demand...
+    private static class ExecutorHolder {
+      /** At most one thread per processor, which exit once they're idle. */
+      static final ExecutorService EXECUTOR = newExecutor();
+
+      private static ExecutorService newExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(
+                threads,
+                threads,
+                1,
+                SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                ModuleRecorderThread::new);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+      }
+    }
+
+    /** Records each module, and waits for all the recordings. */
+    static List<RecordingBinder> recordAll(Stage stage, List<Module> modules) {
+      TopLevelModuleRecorder recorder = new TopLevelModuleRecorder(stage);
+      List<Future<RecordingBinder>> futures = Lists.newArrayList();
+      for (Module module : modules) {
+        futures.add(ExecutorHolder.EXECUTOR.submit(() -> recorder.apply(module)));
+      }
+      List<RecordingBinder> recorded = Lists.newArrayList();
+      for (Future<RecordingBinder> future : futures) {
+        recorded.add(getUninterruptibly(future));
+      }
+      return recorded;
+    }
+
+    /** Waits like a serial recording would, restoring the interrupt status once it's done. */
+    private static <V> V getUninterruptibly(Future<V> future) {
+      boolean interrupted = false;
+      try {
+        while (true) {
+          try {
+            return future.get();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  /** An installation of a module by a top-level binder that's being recorded concurrently. */
+  private static final class InstallRecord {
+    final Module module;
+    /** Null if the module was already installed, so the installation was ignored. */
+    @Nullable final ModuleInfo info;
+    final int elementsStart;
+    int elementsEnd;
+    /** The index of the first record that wasn't made while installing this module. */
+    int nextRecord;
+
+    InstallRecord(Module module, @Nullable ModuleInfo info, int elementsStart) {
+      this.module = module;
+      this.info = info;
+      this.elementsStart = elementsStart;
+      this.elementsEnd = elementsStart;
+    }
+  }
+
   private static class ModuleInfo {
     private final ModuleSource moduleSource;
     private final boolean skipScanning;
@@ -225,6 +445,12 @@ public final class Elements {
 
     private final BindingSourceRestriction.PermitMapConstruction permitMapConstruction;
 
+    /**
+     * The installations of modules by this binder, in order, if it's recording a top-level module
+     * concurrently. Null otherwise.
+     */
+    @Nullable private final List<InstallRecord> installLog;
+
     /** The current modules stack */
     protected ModuleSource moduleSource = null;
 
@@ -241,6 +467,10 @@ public final class Elements {
     private boolean trustedSource = false;
 
     private RecordingBinder(Stage stage) {
+      this(stage, null);
+    }
+
+    private RecordingBinder(Stage stage, @Nullable List<InstallRecord> installLog) {
       this.stage = stage;
       this.modules = Maps.newLinkedHashMap();
       this.scanners = Sets.newLinkedHashSet();
@@ -251,6 +481,7 @@ public final class Elements {
       this.privateElements = null;
       this.privateBindersForScanning = Lists.newArrayList();
       this.permitMapConstruction = new BindingSourceRestriction.PermitMapConstruction();
+      this.installLog = installLog;
     }
 
     /** Creates a recording binder that's backed by {@code prototype}. */
@@ -275,6 +506,7 @@ public final class Elements {
       this.privateBindersForScanning = prototype.privateBindersForScanning;
       this.permitMapConstruction = prototype.permitMapConstruction;
       this.scannerSource = prototype.scannerSource;
+      this.installLog = prototype.installLog;
     }
 
     /** Creates a private recording binder. */
@@ -292,6 +524,7 @@ public final class Elements {
       this.privateBindersForScanning = parent.privateBindersForScanning;
       this.permitMapConstruction = parent.permitMapConstruction;
       this.scannerSource = parent.scannerSource;
+      this.installLog = null;
     }
 
     @Override
@@ -355,6 +588,87 @@ public final class Elements {
       }
     }
 
+    /**
+     * Installs the given top-level modules, recording each of them concurrently into a separate
+     * binder on a {@link ModuleRecorderThread}, and merging the results in order.
+     *
+     * <p>The merged result is the same as installing the modules one after another. The elements
+     * recorded by installing a module that an earlier top-level module already installed are left
+     * out, so duplicate installations are ignored exactly as they would have been. Scanning is not
+     * affected since it only happens once all modules are installed.
+     */
+    void installAllConcurrently(List<Module> topLevelModules) {
+      List<RecordingBinder> recorded = ModuleRecorderThread.recordAll(stage, topLevelModules);
+      List<RecordingBinder> merged = Lists.newArrayList();
+      for (int i = 0; i < recorded.size(); i++) {
+        RecordingBinder binder = recorded.get(i);
+        if (merge(binder)) {
+          merged.add(binder);
+        } else {
+          install(topLevelModules.get(i));
+        }
+      }
+      // Private binders inherit scanners from their parent, which must now see all of them.
+      for (RecordingBinder binder : merged) {
+        binder.scanners.clear();
+        binder.scanners.addAll(scanners);
+      }
+    }
+
+    /**
+     * Merges what {@code recording} recorded into this binder, leaving out the installations of
+     * modules that this binder already installed.
+     *
+     * <p>Returns false without merging anything if the recording ignored a module because it was
+     * installed by one of the installations left out. Installing the module one after another would
+     * have installed that module at a later point, which the recording doesn't know about.
+     */
+    private boolean merge(RecordingBinder recording) {
+      List<InstallRecord> installLog = recording.installLog;
+      Map<Module, ModuleInfo> installed = Maps.newLinkedHashMap();
+      List<Element> kept = Lists.newArrayList();
+      int copied = 0;
+      for (int i = 0; i < installLog.size(); ) {
+        InstallRecord record = installLog.get(i);
+        if (record.info == null) {
+          if (!modules.containsKey(record.module) && !installed.containsKey(record.module)) {
+            return false;
+          }
+          i++;
+        } else if (modules.containsKey(record.module)) {
+          kept.addAll(recording.elements.subList(copied, record.elementsStart));
+          copied = record.elementsEnd;
+          i = record.nextRecord;
+        } else {
+          installed.put(record.module, record.info);
+          i++;
+        }
+      }
+      kept.addAll(recording.elements.subList(copied, recording.elements.size()));
+
+      modules.putAll(installed);
+      elements.addAll(kept);
+      Set<Element> keptPrivateElements = Sets.newIdentityHashSet();
+      for (Element element : kept) {
+        if (element instanceof ModuleAnnotatedMethodScannerBinding) {
+          scanners.add(((ModuleAnnotatedMethodScannerBinding) element).getScanner());
+        } else if (element instanceof PrivateElementsImpl) {
+          keptPrivateElements.add(element);
+        }
+      }
+      for (RecordingBinder child : recording.privateBindersForScanning) {
+        RecordingBinder topLevelChild = child;
+        while (topLevelChild.parent.privateElements != null) {
+          topLevelChild = topLevelChild.parent;
+        }
+        if (keptPrivateElements.contains(topLevelChild.privateElements)) {
+          privateBindersForScanning.add(child);
+        }
+      }
+      permitMapConstruction.merge(recording.permitMapConstruction);
+      return true;
+    }
+
     /**
      * Applies all scanners to the modules we've installed. We skip certain PrivateModules because
      * store them in more than one Modules map and only want to process them through one of the
@@ -393,8 +707,12 @@ public final class Elements {
     public void install(Module module) {
       // Ignore duplicate installations of the same module instance.
       if (modules.containsKey(module)) {
+        if (installLog != null) {
+          installLog.add(new InstallRecord(module, null, elements.size()));
+        }
         return;
       }
+      int elementsStart = elements.size();
       // Whether the module installed is a ProviderMethodModule for a custom scanner.
       boolean customScanner = false;
       Class<?> newModuleClass = null;
@@ -434,7 +752,13 @@ public final class Elements {
       }
       // Always store this in the parent binder (even if it was a private module)
       // so that we know not to process it again, and so that scanners inherit down.
-      modules.put(module, new ModuleInfo(moduleSource, skipScanning));
+      ModuleInfo moduleInfo = new ModuleInfo(moduleSource, skipScanning);
+      modules.put(module, moduleInfo);
+      InstallRecord record = null;
+      if (installLog != null) {
+        record = new InstallRecord(module, moduleInfo, elementsStart);
+        installLog.add(record);
+      }
       try {
         module.configure(binder);
       } catch (RuntimeException e) {
@@ -446,6 +770,10 @@ public final class Elements {
         }
       }
       binder.install(ProviderMethodsModule.forModule(module));
+      if (record != null) {
+        record.elementsEnd = elements.size();
+        record.nextRecord = installLog.size();
+      }
       // We are done with this module, so undo module source change
       if (newModuleClass != null) {
         moduleSource = moduleSource.getParent();
@@ -683,10 +1011,11 @@ public final class Elements {
           StackTraceElement callingSource = sourceProvider.getCaller();
           // If we've traversed past all reasonable sources and into our internal code, then we
           // don't know the source.
-          if (callingSource
-                  .getClassName()
-                  .equals("com.google.inject.internal.InjectorShell$Builder")
-              && callingSource.getMethodName().equals("build")) {
+          if ((callingSource
+                      .getClassName()
+                      .equals("com.google.inject.internal.InjectorShell$Builder")
+                  && callingSource.getMethodName().equals("build"))
+              || callingSource.getClassName().equals(TopLevelModuleRecorder.class.getName())) {
             declaringSource = SourceProvider.UNKNOWN_SOURCE;
           } else {
             declaringSource = callingSource;
@@ -3,10 +3,13 @@ package com.google.inject.spi;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.internal.Messages;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Formatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Details about a single Guice error and supports formatting itself in the context of other Guice
@@ -17,12 +20,27 @@ import java.util.Optional;
  * @since 5.0
  */
 public abstract class ErrorDetail<SelfT extends ErrorDetail<SelfT>> implements Serializable {
-  private final String message;
+  private String message;
+  private final transient Supplier<String> messageSupplier;
   private final ImmutableList<Object> sources;
   private final Throwable cause;
 
   protected ErrorDetail(String message, List<Object> sources, Throwable cause) {
     this.message = message;
+    this.messageSupplier = null;
+    this.sources = ImmutableList.copyOf(sources);
+    this.cause = cause;
+  }
+
+  /**
+   * Creates an error whose message is computed by {@code messageSupplier} the first time it's
+   * needed. Errors are often caught and discarded without their message ever being read, so this
+   * avoids formatting messages that are never shown.
+   *
+   * @since 7.1
+   */
+  protected ErrorDetail(Supplier<String> messageSupplier, List<Object> sources, Throwable cause) {
+    this.messageSupplier = messageSupplier;
     this.sources = ImmutableList.copyOf(sources);
     this.cause = cause;
   }
@@ -98,7 +116,12 @@ public abstract class ErrorDetail<SelfT extends ErrorDetail<SelfT>> implements S
   }
 
   public String getMessage() {
-    return message;
+    String result = message;
+    if (result == null) {
+      // Racing threads compute the same message, so there's no need to synchronize.
+      result = message = messageSupplier.get();
+    }
+    return result;
   }
 
   public List<Object> getSources() {
@@ -111,7 +134,8 @@ public abstract class ErrorDetail<SelfT extends ErrorDetail<SelfT>> implements S
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(message, cause, sources);
+    // The message is left out so that hashing doesn't format it.
+    return Objects.hashCode(cause, sources);
   }
 
   @Override
@@ -120,7 +144,14 @@ public abstract class ErrorDetail<SelfT extends ErrorDetail<SelfT>> implements S
       return false;
     }
     ErrorDetail<?> e = (ErrorDetail<?>) o;
-    return message.equals(e.message) && Objects.equal(cause, e.cause) && sources.equals(e.sources);
+    return Objects.equal(cause, e.cause)
+        && sources.equals(e.sources)
+        && getMessage().equals(e.getMessage());
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
   }
 
   /** Returns a new instance of the same {@link ErrorDetail} with updated sources. */
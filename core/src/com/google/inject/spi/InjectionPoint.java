@@ -28,6 +28,8 @@ import com.google.inject.Inject;
 import com.google.inject.Key;
 import com.google.inject.TypeLiteral;
 import com.google.inject.internal.Annotations;
+import com.google.inject.internal.ClassMetadataCache;
+import com.google.inject.internal.ClassMetadataCache.Result;
 import com.google.inject.internal.DeclaredMembers;
 import com.google.inject.internal.Errors;
 import com.google.inject.internal.ErrorsException;
@@ -68,6 +70,23 @@ public final class InjectionPoint {
 
   private static final Logger logger = Logger.getLogger(InjectionPoint.class.getName());
 
+  // The injection points of classes (but not of parameterized types, whose injection points depend
+  // on their type arguments) are shared by all injectors.
+  private static final ClassMetadataCache<Result<InjectionPoint>> CONSTRUCTORS =
+      ClassMetadataCache.create(
+          "Constructor injection points", type -> constructorOf(TypeLiteral.get(type), false));
+  private static final ClassMetadataCache<Result<InjectionPoint>> AT_INJECT_CONSTRUCTORS =
+      ClassMetadataCache.create(
+          "@Inject constructor injection points",
+          type -> constructorOf(TypeLiteral.get(type), true));
+  private static final ClassMetadataCache<Result<Set<InjectionPoint>>> INSTANCE_MEMBERS =
+      ClassMetadataCache.create(
+          "Instance member injection points",
+          type -> instanceMethodsAndFields(TypeLiteral.get(type)));
+  private static final ClassMetadataCache<Result<Set<InjectionPoint>>> STATIC_MEMBERS =
+      ClassMetadataCache.create(
+          "Static member injection points", type -> staticMethodsAndFields(TypeLiteral.get(type)));
+
   private final boolean optional;
   private final Member member;
   private final TypeLiteral<?> declaringType;
@@ -293,6 +312,24 @@ public final class InjectionPoint {
    * @since 5.0
    */
   public static InjectionPoint forConstructorOf(TypeLiteral<?> type, boolean atInjectRequired) {
+    if (type.getType() instanceof Class) {
+      return (atInjectRequired ? AT_INJECT_CONSTRUCTORS : CONSTRUCTORS)
+          .get(type.getRawType())
+          .getOrThrow();
+    }
+    return constructorOf(type, atInjectRequired).getOrThrow();
+  }
+
+  private static Result<InjectionPoint> constructorOf(
+      TypeLiteral<?> type, boolean atInjectRequired) {
+    try {
+      return new Result<>(findConstructorOf(type, atInjectRequired), ImmutableList.of());
+    } catch (ConfigurationException e) {
+      return new Result<>(null, e.getErrorMessages());
+    }
+  }
+
+  private static InjectionPoint findConstructorOf(TypeLiteral<?> type, boolean atInjectRequired) {
     Class<?> rawType = getRawType(type.getType());
     Errors errors = new Errors(rawType);
 
@@ -385,6 +422,13 @@ public final class InjectionPoint {
    *     the valid injection points.
    */
   public static Set<InjectionPoint> forStaticMethodsAndFields(TypeLiteral<?> type) {
+    if (type.getType() instanceof Class) {
+      return STATIC_MEMBERS.get(type.getRawType()).getOrThrow();
+    }
+    return staticMethodsAndFields(type).getOrThrow();
+  }
+
+  private static Result<Set<InjectionPoint>> staticMethodsAndFields(TypeLiteral<?> type) {
     Errors errors = new Errors();
 
     Set<InjectionPoint> result;
@@ -395,11 +439,7 @@ public final class InjectionPoint {
     } else {
       result = getInjectionPoints(type, true, errors);
     }
-
-    if (errors.hasErrors()) {
-      throw new ConfigurationException(errors.getMessages()).withPartialValue(result);
-    }
-    return result;
+    return new Result<>(result, errors.getMessages());
   }
 
   /**
@@ -429,12 +469,16 @@ public final class InjectionPoint {
    *     the valid injection points.
    */
   public static Set<InjectionPoint> forInstanceMethodsAndFields(TypeLiteral<?> type) {
+    if (type.getType() instanceof Class) {
+      return INSTANCE_MEMBERS.get(type.getRawType()).getOrThrow();
+    }
+    return instanceMethodsAndFields(type).getOrThrow();
+  }
+
+  private static Result<Set<InjectionPoint>> instanceMethodsAndFields(TypeLiteral<?> type) {
     Errors errors = new Errors();
     Set<InjectionPoint> result = getInjectionPoints(type, false, errors);
-    if (errors.hasErrors()) {
-      throw new ConfigurationException(errors.getMessages()).withPartialValue(result);
-    }
-    return result;
+    return new Result<>(result, errors.getMessages());
   }
 
   /**
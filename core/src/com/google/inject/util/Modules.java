@@ -32,6 +32,8 @@ import com.google.inject.Module;
 import com.google.inject.PrivateBinder;
 import com.google.inject.PrivateModule;
 import com.google.inject.Scope;
+import com.google.inject.Stage;
+import com.google.inject.internal.ElementReplayer;
 import com.google.inject.internal.Errors;
 import com.google.inject.spi.DefaultBindingScopingVisitor;
 import com.google.inject.spi.DefaultElementVisitor;
@@ -46,6 +48,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
 
 /**
  * Static utility methods for creating and working with instances of {@link Module}.
@@ -109,7 +113,49 @@ public final class Modules {
    * @param modules the modules whose bindings are open to be overridden
    */
   public static OverriddenModuleBuilder override(Iterable<? extends Module> modules) {
-    return new RealOverriddenModuleBuilder(modules);
+    return new RealOverriddenModuleBuilder(modules, /* reuseElements= */ false);
+  }
+
+  /**
+   * Returns a builder like {@link #override(Module[])}, except that the given modules are only
+   * configured once per stage, and their recorded elements are reused by all the modules created
+   * by the builder. This is useful when the same large modules are overridden many times with a
+   * few bindings each, such as by the tests of a suite, where recording the base modules would
+   * otherwise dominate the cost of creating each injector:
+   *
+   * <pre>
+   * private static final OverriddenModuleBuilder PRODUCTION =
+   *     Modules.overrideReusingElements(new ProductionModule());
+   *
+   * Module functionalTestModule = PRODUCTION.with(new TestModule());
+   * </pre>
+   *
+   * <p>Since the elements are reused, all injectors share the instances bound by the given
+   * modules. They also share the scopes bound with {@code bindScope}, and the listeners and
+   * interceptors bound with {@code bindListener} and {@code bindInterceptor}. A custom scope that
+   * holds on to the objects it scopes holds on to those of every injector, so only reuse modules
+   * that bind such scopes if the scope is meant to span injectors.
+   *
+   * <p>The modules are configured again for each injector if their elements can't be shared: if
+   * they bind instances or providers with members to inject, bind providers other than provider
+   * methods and multibinders, request injection, or look up providers or members injectors.
+   *
+   * @param modules the modules whose bindings are open to be overridden
+   */
+  public static OverriddenModuleBuilder overrideReusingElements(Module... modules) {
+    return overrideReusingElements(Arrays.asList(modules));
+  }
+
+  /**
+   * Returns a builder like {@link #override(Iterable)}, except that the given modules are only
+   * configured once per stage, and their recorded elements are reused by all the modules created
+   * by the builder. See {@link #overrideReusingElements(Module[])}.
+   *
+   * @param modules the modules whose bindings are open to be overridden
+   */
+  public static OverriddenModuleBuilder overrideReusingElements(
+      Iterable<? extends Module> modules) {
+    return new RealOverriddenModuleBuilder(modules, /* reuseElements= */ true);
   }
 
   /**
@@ -181,10 +227,14 @@ public final class Modules {
 
   private static final class RealOverriddenModuleBuilder implements OverriddenModuleBuilder {
     private final ImmutableSet<Module> baseModules;
+    // The recorded base modules of each stage, or null if they're recorded by each module.
+    @Nullable private final Map<Stage, BaseElements> baseElementsByStage;
 
     // TODO(diamondm) checkArgument(!baseModules.isEmpty())?
-    private RealOverriddenModuleBuilder(Iterable<? extends Module> baseModules) {
+    private RealOverriddenModuleBuilder(
+        Iterable<? extends Module> baseModules, boolean reuseElements) {
       this.baseModules = ImmutableSet.copyOf(baseModules);
+      this.baseElementsByStage = reuseElements ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
@@ -199,45 +249,87 @@ public final class Modules {
 
     @Override
     public Module with(Iterable<? extends Module> overrides) {
-      return new OverrideModule(overrides, baseModules);
+      return new OverrideModule(overrides, baseModules, baseElementsByStage);
+    }
+  }
+
+  /** The elements of the base modules, along with what's derived from them alone. */
+  private static final class BaseElements {
+    // The sole element of the base modules if it's a PrivateElements, whose private elements are
+    // then overridden.
+    @Nullable final PrivateElements privateElements;
+    final ImmutableSet<Element> elements;
+    final ImmutableList<ModuleAnnotatedMethodScannerBinding> scanners;
+    // Whether the elements are shared by several modules, so they must be replayed.
+    final boolean reused;
+
+    BaseElements(List<Element> baseElements, boolean reused) {
+      // If the sole element was a PrivateElements, we want to override
+      // the private elements within that -- so refocus our elements.
+      if (baseElements.size() == 1
+          && Iterables.getOnlyElement(baseElements) instanceof PrivateElements) {
+        this.privateElements = (PrivateElements) Iterables.getOnlyElement(baseElements);
+        baseElements = privateElements.getElements();
+      } else {
+        this.privateElements = null;
+      }
+      this.elements = ImmutableSet.copyOf(baseElements);
+      this.scanners = extractScanners(elements);
+      this.reused = reused;
     }
   }
 
   static class OverrideModule extends AbstractModule {
     private final ImmutableSet<Module> overrides;
     private final ImmutableSet<Module> baseModules;
+    @Nullable private final Map<Stage, BaseElements> baseElementsByStage;
 
     // TODO(diamondm) checkArgument(!overrides.isEmpty())?
-    OverrideModule(Iterable<? extends Module> overrides, ImmutableSet<Module> baseModules) {
+    OverrideModule(
+        Iterable<? extends Module> overrides,
+        ImmutableSet<Module> baseModules,
+        @Nullable Map<Stage, BaseElements> baseElementsByStage) {
       this.overrides = ImmutableSet.copyOf(overrides);
       this.baseModules = baseModules;
+      this.baseElementsByStage = baseElementsByStage;
+    }
+
+    private BaseElements getBaseElements() {
+      if (baseElementsByStage == null) {
+        return new BaseElements(Elements.getElements(currentStage(), baseModules), false);
+      }
+      BaseElements baseElements = baseElementsByStage.get(currentStage());
+      if (baseElements == null) {
+        List<Element> recorded = Elements.getElements(currentStage(), baseModules);
+        // Elements that can't be shared are recorded again for each module.
+        boolean reused = ElementReplayer.findNonReplayable(recorded) == null;
+        baseElements = new BaseElements(recorded, reused);
+        if (reused) {
+          baseElementsByStage.putIfAbsent(currentStage(), baseElements);
+        }
+      }
+      return baseElements;
     }
 
     @Override
     public void configure() {
       Binder baseBinder = binder();
-      List<Element> baseElements = Elements.getElements(currentStage(), baseModules);
-
-      // If the sole element was a PrivateElements, we want to override
-      // the private elements within that -- so refocus our elements
-      // and binder.
-      if (baseElements.size() == 1) {
-        Element element = Iterables.getOnlyElement(baseElements);
-        if (element instanceof PrivateElements) {
-          PrivateElements privateElements = (PrivateElements) element;
-          PrivateBinder privateBinder =
-              baseBinder.newPrivateBinder().withSource(privateElements.getSource());
-          for (Key<?> exposed : privateElements.getExposedKeys()) {
-            privateBinder.withSource(privateElements.getExposedSource(exposed)).expose(exposed);
-          }
-          baseBinder = privateBinder;
-          baseElements = privateElements.getElements();
+      BaseElements baseElements = getBaseElements();
+
+      // Refocus our binder on the private elements if we're overriding them.
+      if (baseElements.privateElements != null) {
+        PrivateElements privateElements = baseElements.privateElements;
+        PrivateBinder privateBinder =
+            baseBinder.newPrivateBinder().withSource(privateElements.getSource());
+        for (Key<?> exposed : privateElements.getExposedKeys()) {
+          privateBinder.withSource(privateElements.getExposedSource(exposed)).expose(exposed);
         }
+        baseBinder = privateBinder;
       }
 
       final Binder binder = baseBinder.skipSources(this.getClass());
-      final ImmutableSet<Element> elements = ImmutableSet.copyOf(baseElements);
-      final Module scannersModule = extractScanners(elements);
+      final ImmutableSet<Element> elements = baseElements.elements;
+      final Module scannersModule = scannersModule(baseElements.scanners);
       final List<Element> overrideElements =
           Elements.getElements(
               currentStage(),
@@ -273,7 +365,7 @@ public final class Modules {
       // multiple times.
       final Map<Scope, List<Object>> scopeInstancesInUse = Maps.newHashMap();
       final List<ScopeBinding> scopeBindings = Lists.newArrayList();
-      new ModuleWriter(binder) {
+      new ModuleWriter(binder, baseElements.reused ? new ElementReplayer() : null) {
         @Override
         public <T> Void visit(Binding<T> binding) {
           if (!overriddenKeys.remove(binding.getKey())) {
@@ -313,7 +405,7 @@ public final class Modules {
               rewrite(privateBinder, (PrivateElements) element, skippedExposes);
               continue;
             }
-            element.applyTo(privateBinder);
+            apply(element, privateBinder);
           }
         }
 
@@ -373,17 +465,32 @@ public final class Modules {
 
   private static class ModuleWriter extends DefaultElementVisitor<Void> {
     protected final Binder binder;
+    // Replays the elements if they're reused by other injectors, or null to apply them directly.
+    @Nullable private final ElementReplayer replayer;
 
     ModuleWriter(Binder binder) {
+      this(binder, null);
+    }
+
+    ModuleWriter(Binder binder, @Nullable ElementReplayer replayer) {
       this.binder = binder.skipSources(this.getClass());
+      this.replayer = replayer;
     }
 
     @Override
     protected Void visitOther(Element element) {
-      element.applyTo(binder);
+      apply(element, binder);
       return null;
     }
 
+    void apply(Element element, Binder binder) {
+      if (replayer != null) {
+        replayer.replay(element, binder);
+      } else {
+        element.applyTo(binder);
+      }
+    }
+
     void writeAll(Iterable<? extends Element> elements) {
       for (Element element : elements) {
         element.acceptVisitor(this);
@@ -391,7 +498,8 @@ public final class Modules {
     }
   }
 
-  private static Module extractScanners(Iterable<Element> elements) {
+  private static ImmutableList<ModuleAnnotatedMethodScannerBinding> extractScanners(
+      Iterable<Element> elements) {
     final List<ModuleAnnotatedMethodScannerBinding> scanners = Lists.newArrayList();
     ElementVisitor<Void> visitor =
         new DefaultElementVisitor<Void>() {
@@ -404,6 +512,10 @@ public final class Modules {
     for (Element element : elements) {
       element.acceptVisitor(visitor);
     }
+    return ImmutableList.copyOf(scanners);
+  }
+
+  private static Module scannersModule(List<ModuleAnnotatedMethodScannerBinding> scanners) {
     return new AbstractModule() {
       @Override
       protected void configure() {
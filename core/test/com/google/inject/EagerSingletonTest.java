@@ -81,6 +81,27 @@ public class EagerSingletonTest extends TestCase {
     assertEquals(1, C.instanceCount);
   }
 
+  public void testProductionStage_unscopedBindingsShareEagerSingletons() {
+    Injector injector =
+        Guice.createInjector(
+            Stage.PRODUCTION,
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(D.class).to(C.class);
+                bind(E.class);
+              }
+            });
+    assertEquals(1, C.instanceCount);
+
+    E first = injector.getInstance(E.class);
+    E second = injector.getInstance(E.class);
+    assertNotSame(first, second);
+    assertSame(first.d, second.d);
+    assertSame(injector.getInstance(C.class), first.d);
+    assertEquals(1, C.instanceCount);
+  }
+
   // there used to be a bug that caused a concurrent modification exception if jit bindings were
   // loaded during eager singleton creation due to failur to apply the lock when iterating over
   // all bindings.
@@ -195,4 +216,13 @@ public class EagerSingletonTest extends TestCase {
   }
 
   private static interface D {}
+
+  static class E {
+    final D d;
+
+    @Inject
+    E(D d) {
+      this.d = d;
+    }
+  }
 }
@@ -19,13 +19,19 @@ package com.google.inject;
 import static com.google.inject.Asserts.assertContains;
 import static com.google.inject.Asserts.assertNotSerializable;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertThrows;
 
+import com.google.common.collect.ImmutableList;
+import com.google.inject.name.Names;
 import java.io.IOException;
 import java.lang.annotation.Retention;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import junit.framework.TestCase;
 
@@ -440,4 +446,92 @@ public class InjectorTest extends TestCase {
   }
 
   static class JustInTime {}
+
+  public void testFindProvider() {
+    Injector injector = Guice.createInjector(binder -> binder.bind(String.class).toInstance("a"));
+
+    assertEquals("a", injector.findProvider(String.class).get().get());
+    assertEquals("a", injector.findProvider(new Key<Provider<String>>() {}).get().get().get());
+    assertFalse(injector.findProvider(Runnable.class).isPresent());
+    assertFalse(injector.findProvider(new Key<Provider<Runnable>>() {}).isPresent());
+    assertFalse(injector.findProvider(Key.get(Provider.class)).isPresent());
+    assertFalse(injector.findProvider(Key.get(String.class, Names.named("b"))).isPresent());
+  }
+
+  public void testFindProvider_doesNotCreateJitBindings() {
+    Injector injector = Guice.createInjector();
+
+    assertFalse(injector.findProvider(JustInTime.class).isPresent());
+    assertNull(injector.getExistingBinding(Key.get(JustInTime.class)));
+
+    JustInTime instance = injector.getInstance(JustInTime.class);
+    assertNotNull(injector.findProvider(JustInTime.class).get().get());
+    assertNotSame(instance, injector.findProvider(JustInTime.class).get().get());
+  }
+
+  public void testFindProvider_inChildInjector() {
+    Injector parent = Guice.createInjector(binder -> binder.bind(String.class).toInstance("a"));
+    Injector child = parent.createChildInjector(binder -> binder.bind(Integer.class).toInstance(1));
+
+    assertEquals("a", child.findProvider(String.class).get().get());
+    assertEquals(1, (int) child.findProvider(Integer.class).get().get());
+    assertFalse(parent.findProvider(Integer.class).isPresent());
+  }
+
+  public void testGetProvisionPlan() {
+    AtomicInteger provisionCount = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              binder.bind(String.class).toInstance("a");
+              binder.bind(Integer.class).toProvider(provisionCount::incrementAndGet);
+              binder.bind(Long.class).toProvider(() -> null);
+            });
+    ImmutableList<Key<?>> keys =
+        ImmutableList.of(Key.get(Integer.class), Key.get(String.class), Key.get(Long.class));
+
+    ProvisionPlan plan = injector.getProvisionPlan(keys);
+    assertEquals(keys, plan.getKeys());
+    assertEquals(0, provisionCount.get());
+    assertEquals(Arrays.asList(1, "a", null), plan.provision());
+    assertEquals(Arrays.asList(2, "a", null), plan.provision());
+    assertEquals(Arrays.asList(3, "a", null), injector.getInstances(keys));
+    assertEquals(ImmutableList.of(), injector.getInstances(ImmutableList.of()));
+  }
+
+  public void testGetProvisionPlan_createsJitBindings() {
+    Injector injector = Guice.createInjector();
+
+    List<Object> instances = injector.getInstances(ImmutableList.of(Key.get(JustInTime.class)));
+    assertTrue(instances.get(0) instanceof JustInTime);
+  }
+
+  public void testGetProvisionPlan_missingBindings() {
+    Injector injector = Guice.createInjector();
+
+    ConfigurationException expected =
+        assertThrows(
+            ConfigurationException.class,
+            () ->
+                injector.getProvisionPlan(
+                    ImmutableList.of(Key.get(Runnable.class), Key.get(Comparable.class))));
+    assertEquals(2, expected.getErrorMessages().size());
+  }
+
+  public void testGetProvisionPlan_provisionFailure() {
+    Injector injector =
+        Guice.createInjector(
+            binder ->
+                binder
+                    .bind(String.class)
+                    .toProvider(
+                        () -> {
+                          throw new IllegalStateException("failed");
+                        }));
+    ProvisionPlan plan = injector.getProvisionPlan(ImmutableList.of(Key.get(String.class)));
+
+    ProvisionException expected = assertThrows(ProvisionException.class, plan::provision);
+    assertTrue(expected.getCause() instanceof IllegalStateException);
+    assertContains(expected.getMessage(), "while locating String");
+  }
 }
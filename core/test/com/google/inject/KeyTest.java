@@ -81,6 +81,24 @@ public class KeyTest extends TestCase {
     assertEqualsBothWays(a, b);
   }
 
+  public void testKeysOfClassesShareTypeLiterals() {
+    TypeLiteral<String> typeLiteral = Key.get(String.class).getTypeLiteral();
+    assertSame(typeLiteral, Key.get(String.class, Names.named("foo")).getTypeLiteral());
+    assertSame(typeLiteral, Key.get(TypeLiteral.get(String.class)).getTypeLiteral());
+    assertSame(typeLiteral, Key.get(String.class).withAnnotation(Named.class).getTypeLiteral());
+  }
+
+  public void testReflectiveNamedAnnotationsAreCanonicalized() throws NoSuchFieldException {
+    Named named = getClass().getDeclaredField("namedField").getAnnotation(Named.class);
+    Key<String> key = Key.get(String.class, named);
+    assertEquals(Names.named("foo"), key.getAnnotation());
+    assertEquals(Names.named("foo").getClass(), key.getAnnotation().getClass());
+    assertEqualsBothWays(Key.get(String.class, Names.named("foo")), key);
+  }
+
+  @Named("foo")
+  String namedField;
+
   public void testProviderKey() throws NoSuchMethodException {
     Key<?> actual =
         Key.get(getClass().getMethod("foo", List.class, List.class).getGenericParameterTypes()[0])
@@ -367,4 +385,44 @@ public class KeyTest extends TestCase {
   }
 
   static class Typed<T> {}
+
+  public void testKeysWithMultiMemberAnnotations() throws NoSuchFieldException {
+    Key<String> a = Key.get(String.class, annotationOf("a"));
+    Key<String> sameAsA = Key.get(String.class, annotationOf("sameAsA"));
+    Key<String> differentArray = Key.get(String.class, annotationOf("differentArray"));
+    Key<String> differentName = Key.get(String.class, annotationOf("differentName"));
+
+    assertEqualsBothWays(a, sameAsA);
+    assertFalse(a.equals(differentArray));
+    assertFalse(differentArray.equals(a));
+    assertFalse(a.equals(differentName));
+    assertEquals(Qualified.class, a.getAnnotationType());
+  }
+
+  private static Qualified annotationOf(String fieldName) throws NoSuchFieldException {
+    return HasQualifiedFields.class.getDeclaredField(fieldName).getAnnotation(Qualified.class);
+  }
+
+  @Retention(RUNTIME)
+  @Target(ElementType.FIELD)
+  @BindingAnnotation
+  @interface Qualified {
+    String name();
+
+    int[] ids();
+  }
+
+  static class HasQualifiedFields {
+    @Qualified(name = "foo", ids = {1, 2})
+    String a;
+
+    @Qualified(name = "foo", ids = {1, 2})
+    String sameAsA;
+
+    @Qualified(name = "foo", ids = {1, 3})
+    String differentArray;
+
+    @Qualified(name = "bar", ids = {1, 2})
+    String differentName;
+  }
 }
@@ -28,6 +28,7 @@ import static org.junit.Assume.assumeTrue;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.inject.internal.InternalFlags;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Names;
@@ -318,6 +319,43 @@ public class ParentInjectorTest {
     }
   }
 
+  @Test
+  public void testBindingsInheritedThroughDeepHierarchy() {
+    Injector injector = Guice.createInjector(binder -> binder.bind(A.class).toInstance(new A()));
+    List<Injector> injectors = Lists.newArrayList(injector);
+    for (int i = 1; i < 8; i++) {
+      String name = "level" + i;
+      injector =
+          injector.createChildInjector(
+              binder -> {
+                binder.bind(String.class).annotatedWith(Names.named(name)).toInstance(name);
+                if (name.equals("level3")) {
+                  binder.bindScope(MyScope.class, Scopes.SINGLETON);
+                }
+              });
+      injectors.add(injector);
+    }
+
+    Injector leaf = injector;
+    assertSame(injectors.get(0).getInstance(A.class), leaf.getInstance(A.class));
+    for (int i = 1; i < 8; i++) {
+      assertEquals("level" + i, leaf.getInstance(Key.get(String.class, Names.named("level" + i))));
+    }
+    // Injector is bound at every level, the closest binding wins.
+    assertSame(leaf, leaf.getInstance(Injector.class));
+    assertSame(leaf.getInstance(F.class), leaf.getInstance(F.class));
+    // Bindings of deeper levels aren't visible higher up.
+    assertNull(injectors.get(4).getExistingBinding(Key.get(String.class, Names.named("level5"))));
+
+    try {
+      leaf.createChildInjector(
+          binder -> binder.bind(String.class).annotatedWith(Names.named("level2")).toInstance(""));
+      fail();
+    } catch (CreationException expected) {
+      assertContains(expected.getMessage(), "was bound multiple times");
+    }
+  }
+
   @Singleton
   static class A {}
 
@@ -20,12 +20,16 @@ import static com.google.inject.Asserts.assertContains;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.common.collect.Iterables;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.name.Names;
 import com.google.inject.spi.ConvertedConstantBinding;
 import com.google.inject.spi.TypeConverter;
 import com.google.inject.spi.TypeConverterBinding;
 import java.lang.annotation.Retention;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 import junit.framework.AssertionFailedError;
 import junit.framework.TestCase;
 
@@ -429,6 +433,44 @@ public class TypeConversionTest extends TestCase {
     assertSame(first, second);
   }
 
+  public void testTypeMatcherEvaluatedOncePerType() {
+    final AtomicInteger matches = new AtomicInteger();
+    final Matcher<TypeLiteral<?>> dateMatcher =
+        new AbstractMatcher<TypeLiteral<?>>() {
+          @Override
+          public boolean matches(TypeLiteral<?> type) {
+            matches.incrementAndGet();
+            return type.getRawType() == Date.class;
+          }
+        };
+
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                convertToTypes(dateMatcher, mockTypeConverter(new Date()));
+                bindConstant().annotatedWith(NumericValue.class).to("1");
+                bindConstant().annotatedWith(Names.named("date")).to("2");
+              }
+            });
+
+    assertNotNull(injector.getInstance(Key.get(Date.class, NumericValue.class)));
+    assertNotNull(injector.getInstance(Key.get(Date.class, Names.named("date"))));
+    assertEquals(1, matches.get());
+
+    Injector child =
+        injector.createChildInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindConstant().annotatedWith(Names.named("childDate")).to("3");
+              }
+            });
+    assertNotNull(child.getInstance(Key.get(Date.class, Names.named("childDate"))));
+    assertEquals(1, matches.get());
+  }
+
   class OuterAmbiguousModule extends AbstractModule {
     @Override
     protected void configure() {
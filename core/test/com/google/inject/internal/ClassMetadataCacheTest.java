@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ClassMetadataCacheTest {
+
+  @Test
+  public void get_computesOncePerClass() {
+    ClassMetadataCache<String> cache = ClassMetadataCache.create("Names", Class::getName);
+
+    assertThat(cache.get(String.class)).isEqualTo("java.lang.String");
+    assertThat(cache.get(String.class)).isEqualTo("java.lang.String");
+    assertThat(cache.get(Integer.class)).isEqualTo("java.lang.Integer");
+
+    assertThat(cache.missCount()).isEqualTo(2);
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.toString()).isEqualTo("Names: 3 lookups, 1 hits (33.3%)");
+  }
+}
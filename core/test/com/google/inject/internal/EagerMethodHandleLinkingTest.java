@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Singleton;
+import com.google.inject.Stage;
+import com.google.inject.spi.Dependency;
+import java.lang.invoke.MethodHandle;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for linking the method handles of explicit bindings at injector creation. Most of these
+ * only apply when run with {@code guice_use_method_handles=YES} and {@code
+ * guice_eager_method_handle_linking=ON}.
+ */
+@RunWith(JUnit4.class)
+public class EagerMethodHandleLinkingTest {
+
+  @Test
+  public void testProductionStage_linksExplicitBindingsAndFoldsSingletons() throws Throwable {
+    Injector injector = Guice.createInjector(Stage.PRODUCTION, new LinkingModule());
+    InternalFactory<?> consumerFactory = factoryOf(injector, Key.get(Consumer.class));
+    InternalFactory<?> serviceFactory = factoryOf(injector, Key.get(Service.class));
+    if (!InternalFlags.isEagerMethodHandleLinkingEnabled()) {
+      assertThat(consumerFactory.getCachedHandle(false)).isNull();
+      assertThat(serviceFactory.getCachedHandle(false)).isNull();
+      return;
+    }
+
+    assertThat(consumerFactory.getCachedHandle(false)).isNotNull();
+    // The linked binding to the preloaded singleton is folded to a constant, so its handle doesn't
+    // need a context to return the singleton.
+    MethodHandle serviceHandle = serviceFactory.getCachedHandle(false);
+    assertThat(serviceHandle).isNotNull();
+    Object service = serviceHandle.invoke((InternalContext) null, (Dependency<?>) null);
+    assertThat(service).isSameInstanceAs(injector.getInstance(ServiceImpl.class));
+    assertThat(serviceFactory.getConstantValue()).isSameInstanceAs(service);
+
+    Consumer first = injector.getInstance(Consumer.class);
+    Consumer second = injector.getInstance(Consumer.class);
+    assertThat(first).isNotSameInstanceAs(second);
+    assertThat(first.service).isSameInstanceAs(service);
+    assertThat(second.service).isSameInstanceAs(service);
+  }
+
+  @Test
+  public void testDevelopmentStage_doesNotLinkExplicitBindings() {
+    Injector injector = Guice.createInjector(Stage.DEVELOPMENT, new LinkingModule());
+    assertThat(factoryOf(injector, Key.get(Consumer.class)).getCachedHandle(false)).isNull();
+    assertThat(factoryOf(injector, Key.get(Service.class)).getCachedHandle(false)).isNull();
+  }
+
+  private static InternalFactory<?> factoryOf(Injector injector, Key<?> key) {
+    return ((BindingImpl<?>) injector.getBinding(key)).getInternalFactory();
+  }
+
+  private static class LinkingModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(Service.class).to(ServiceImpl.class);
+      bind(Consumer.class);
+    }
+  }
+
+  interface Service {}
+
+  @Singleton
+  static class ServiceImpl implements Service {}
+
+  static class Consumer {
+    final Service service;
+
+    @Inject
+    Consumer(Service service) {
+      this.service = service;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.PrivateModule;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.ExposedBinding;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.ProviderLookup;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class InjectorBindingDataTest {
+
+  static class Injectable {
+    @Inject String string;
+  }
+
+  @Test
+  public void dropIntrospectionMetadata_keepsBindingsAndDropsLookupsAndRequests() {
+    InjectorImpl injector =
+        (InjectorImpl)
+            Guice.createInjector(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    bind(String.class).toInstance("foo");
+                    getProvider(String.class);
+                    requestInjection(new Injectable());
+                  }
+                });
+    assertThat(injector.getElements()).containsAtLeastElementsIn(injector.getBindings().values());
+    assertThat(injector.getElements().stream().filter(e -> e instanceof ProviderLookup)).hasSize(1);
+    assertThat(injector.getElements().stream().filter(e -> e instanceof InjectionRequest))
+        .hasSize(1);
+
+    DroppedMetadata dropped = new DroppedMetadata();
+    injector.getBindingData().dropIntrospectionMetadata(dropped);
+    assertThat(dropped.getCount(DroppedMetadata.Category.LOOKUPS)).isEqualTo(1);
+    assertThat(dropped.getCount(DroppedMetadata.Category.INJECTION_REQUESTS)).isEqualTo(1);
+
+    assertThat(injector.getElements().stream().filter(e -> e instanceof ProviderLookup)).isEmpty();
+    assertThat(injector.getElements().stream().filter(e -> e instanceof InjectionRequest))
+        .isEmpty();
+    assertThat(injector.getInstance(String.class)).isEqualTo("foo");
+    // The index by type is rebuilt on demand.
+    assertThat(injector.findBindingsByType(TypeLiteral.get(String.class)))
+        .containsExactly(injector.getBinding(String.class));
+  }
+
+  @Test
+  public void dropElements_privateModule() {
+    InjectorImpl injector =
+        (InjectorImpl)
+            Guice.createInjector(
+                new PrivateModule() {
+                  @Override
+                  protected void configure() {
+                    bind(String.class).toInstance("foo");
+                    bind(Integer.class).toInstance(1);
+                    expose(String.class);
+                  }
+                });
+    PrivateElementsImpl privateElements =
+        (PrivateElementsImpl)
+            ((ExposedBinding<String>) injector.getBinding(String.class)).getPrivateElements();
+
+    DroppedMetadata dropped = new DroppedMetadata();
+    privateElements.dropElements(dropped);
+    assertThat(dropped.getCount(DroppedMetadata.Category.PRIVATE_ELEMENTS)).isEqualTo(2);
+
+    assertThat(privateElements.getElements()).isEmpty();
+    assertThat(privateElements.getExposedKeys()).hasSize(1);
+    assertThat(injector.getInstance(String.class)).isEqualTo("foo");
+  }
+}
@@ -18,6 +18,12 @@ package com.google.inject.internal;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
 import com.google.inject.spi.Dependency;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
@@ -102,4 +108,48 @@ public class InternalFactoryTest {
     assertThat(factory.getHandle(new LinkageContext(), true))
         .isNotSameInstanceAs(factory.getHandle(new LinkageContext(), false));
   }
+
+  @Test
+  public void testConstantValue_linkedToSingletonOnceCreated() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(CharSequence.class).to(StringBuilder.class).in(Singleton.class);
+                bind(Object.class).to(CharSequence.class);
+                bind(Runnable.class).toInstance(() -> {});
+              }
+            });
+    InternalFactory<?> linked = getInternalFactory(injector, Key.get(Object.class));
+    assertThat(linked.getConstantValue()).isNull();
+
+    Object value = injector.getInstance(Object.class);
+    assertThat(linked.getConstantValue()).isSameInstanceAs(value);
+    assertThat(getInternalFactory(injector, Key.get(Runnable.class)).getConstantValue())
+        .isSameInstanceAs(injector.getInstance(Runnable.class));
+  }
+
+  @Test
+  public void testConstantValue_unscopedIsNeverConstant() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(CharSequence.class).to(StringBuilder.class);
+              }
+            });
+    InternalFactory<?> factory = getInternalFactory(injector, Key.get(CharSequence.class));
+    injector.getInstance(CharSequence.class);
+    assertThat(factory.getConstantValue()).isNull();
+
+    Provider<CharSequence> provider = injector.getProvider(CharSequence.class);
+    assertThat(getInternalFactory(injector, new Key<Provider<CharSequence>>() {}).getConstantValue())
+        .isSameInstanceAs(provider);
+  }
+
+  private static InternalFactory<?> getInternalFactory(Injector injector, Key<?> key) {
+    return ((BindingImpl<?>) injector.getBinding(key)).getInternalFactory();
+  }
 }
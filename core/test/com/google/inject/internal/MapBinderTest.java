@@ -27,6 +27,7 @@ import static com.google.inject.name.Names.named;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.Assert.assertThrows;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -47,9 +48,11 @@ import com.google.inject.Module;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.ProvisionException;
+import com.google.inject.Scopes;
 import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
 import com.google.inject.internal.RealMapBinder.ProviderMapEntry;
+import com.google.inject.multibindings.KeyedProvider;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.MapBinderBinding;
 import com.google.inject.name.Names;
@@ -79,6 +82,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import junit.framework.TestCase;
 
@@ -142,6 +146,9 @@ public class MapBinderTest extends TestCase {
                 // Map<K, Collection<Provider<V>>
                 Key.get(
                     Types.mapOf(String.class, Types.collectionOf(Types.providerOf(String.class)))),
+                // KeyedProvider<K, V>
+                Key.get(
+                    Types.newParameterizedType(KeyedProvider.class, String.class, String.class)),
                 // Set<Map.Entry<K, Provider<V>>>
                 Key.get(Types.setOf(mapEntryOf(String.class, Types.providerOf(String.class)))),
                 // Collection<Provider<Map.Entry<K, Provider<V>>>>
@@ -1669,6 +1676,259 @@ public class MapBinderTest extends TestCase {
     }
   }
 
+  public void testProvisionLazily_provisionsValuesAsTheyAreLookedUp() {
+    Map<String, AtomicInteger> provisionCounts = new HashMap<>();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class).provisionLazily();
+              for (String key : ImmutableList.of("a", "b", "c")) {
+                AtomicInteger provisionCount = new AtomicInteger();
+                provisionCounts.put(key, provisionCount);
+                mapBinder
+                    .addBinding(key)
+                    .toProvider(
+                        (Provider<String>)
+                            () -> {
+                              provisionCount.incrementAndGet();
+                              return key + "Value";
+                            });
+              }
+              mapBinder.addBinding("singleton").to(Key.get(String.class, named("singleton")));
+              binder
+                  .bind(String.class)
+                  .annotatedWith(named("singleton"))
+                  .toProvider((Provider<String>) () -> new String("singletonValue"))
+                  .in(Scopes.SINGLETON);
+            });
+
+    Map<String, String> map = injector.getInstance(Key.get(mapOfString));
+    assertEquals(ImmutableSet.of("a", "b", "c", "singleton"), map.keySet());
+    assertTrue(map.containsKey("b"));
+    assertEquals(4, map.size());
+    assertEquals("bValue", map.get("b"));
+    assertEquals("bValue", map.get("b"));
+    assertNull(map.get("d"));
+    assertEquals(0, provisionCounts.get("a").get());
+    assertEquals(1, provisionCounts.get("b").get());
+
+    assertEquals(
+        ImmutableMap.of(
+            "a", "aValue", "b", "bValue", "c", "cValue", "singleton", "singletonValue"),
+        map);
+    assertEquals(1, provisionCounts.get("a").get());
+    assertEquals(1, provisionCounts.get("b").get());
+
+    Map<String, String> other = injector.getInstance(Key.get(mapOfString));
+    assertEquals("bValue", other.get("b"));
+    assertEquals(2, provisionCounts.get("b").get());
+    assertSame(map.get("singleton"), other.get("singleton"));
+  }
+
+  public void testProvisionLazily_nullValue() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class).provisionLazily();
+              mapBinder.addBinding("a").toInstance("aValue");
+              mapBinder.addBinding("b").toProvider(Providers.<String>of(null));
+            });
+
+    Map<String, String> map = injector.getInstance(Key.get(mapOfString));
+    assertEquals("aValue", map.get("a"));
+    ProvisionException expected = assertThrows(ProvisionException.class, () -> map.get("b"));
+    assertContains(
+        expected.getMessage(), "Map injection failed due to null value for key \"b\", bound at:");
+  }
+
+  public void testConstantValues_mapIsProvisionedOnce() {
+    AtomicInteger provisionCount = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class);
+              mapBinder.addBinding("a").toInstance("aValue");
+              mapBinder
+                  .addBinding("b")
+                  .toProvider(
+                      (Provider<String>)
+                          () -> {
+                            provisionCount.incrementAndGet();
+                            return "bValue";
+                          })
+                  .in(Scopes.SINGLETON);
+            });
+
+    Map<String, String> map = injector.getInstance(Key.get(mapOfString));
+    assertEquals(ImmutableMap.of("a", "aValue", "b", "bValue"), map);
+    assertSame(map, injector.getInstance(Key.get(mapOfString)));
+    assertSame(map, injector.getProvider(Key.get(mapOfString)).get());
+    assertEquals(1, provisionCount.get());
+  }
+
+  public void testConstantValues_unscopedValueIsProvisionedEachTime() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class);
+              mapBinder.addBinding("a").toInstance("aValue");
+              mapBinder.addBinding("b").toProvider((Provider<String>) () -> "bValue");
+            });
+
+    Map<String, String> map = injector.getInstance(Key.get(mapOfString));
+    assertEquals(ImmutableMap.of("a", "aValue", "b", "bValue"), map);
+    assertNotSame(map, injector.getInstance(Key.get(mapOfString)));
+  }
+
+  public void testKeyedProvider() {
+    AtomicInteger provisionCount = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class);
+              mapBinder.addBinding("b").toInstance("bValue");
+              mapBinder
+                  .addBinding("a")
+                  .toProvider(
+                      (Provider<String>)
+                          () -> {
+                            provisionCount.incrementAndGet();
+                            return "aValue";
+                          });
+            });
+
+    KeyedProvider<String, String> keyedProvider =
+        injector.getInstance(new Key<KeyedProvider<String, String>>() {});
+    assertEquals(ImmutableList.of("b", "a"), ImmutableList.copyOf(keyedProvider.keySet()));
+    assertEquals(0, provisionCount.get());
+    assertEquals("aValue", keyedProvider.get("a"));
+    assertEquals("aValue", keyedProvider.getProvider("a").get());
+    assertEquals(2, provisionCount.get());
+    assertEquals("bValue", keyedProvider.get("b"));
+    assertNull(keyedProvider.get("c"));
+    assertNull(keyedProvider.getProvider("c"));
+    assertSame(
+        keyedProvider, injector.getInstance(new Key<KeyedProvider<String, String>>() {}));
+  }
+
+  public void testKeyedProvider_enumKeys() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<RetentionPolicy, String> mapBinder =
+                  MapBinder.newMapBinder(binder, RetentionPolicy.class, String.class);
+              mapBinder.addBinding(RetentionPolicy.RUNTIME).toInstance("runtime");
+              mapBinder.addBinding(RetentionPolicy.SOURCE).toInstance("source");
+            });
+
+    KeyedProvider<RetentionPolicy, String> keyedProvider =
+        injector.getInstance(new Key<KeyedProvider<RetentionPolicy, String>>() {});
+    assertEquals(
+        ImmutableList.of(RetentionPolicy.RUNTIME, RetentionPolicy.SOURCE),
+        ImmutableList.copyOf(keyedProvider.keySet()));
+    assertEquals("runtime", keyedProvider.get(RetentionPolicy.RUNTIME));
+    assertEquals("source", keyedProvider.get(RetentionPolicy.SOURCE));
+    assertNull(keyedProvider.get(RetentionPolicy.CLASS));
+    assertNull(keyedProvider.getProvider(RetentionPolicy.CLASS));
+  }
+
+  public void testKeyedProvider_enumKeysOfDistinctTypes() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<Feature, String> sameOrdinals =
+                  MapBinder.newMapBinder(binder, Feature.class, String.class);
+              sameOrdinals.addBinding(Color.RED).toInstance("red");
+              sameOrdinals.addBinding(Size.SMALL).toInstance("small");
+              MapBinder<Feature, String> largerOrdinal =
+                  MapBinder.newMapBinder(
+                      binder, Feature.class, String.class, Names.named("largerOrdinal"));
+              largerOrdinal.addBinding(Color.RED).toInstance("red");
+              largerOrdinal.addBinding(Size.LARGE).toInstance("large");
+            });
+
+    KeyedProvider<Feature, String> sameOrdinals =
+        injector.getInstance(new Key<KeyedProvider<Feature, String>>() {});
+    assertEquals("red", sameOrdinals.get(Color.RED));
+    assertEquals("small", sameOrdinals.get(Size.SMALL));
+    assertNull(sameOrdinals.get(Color.BLUE));
+
+    KeyedProvider<Feature, String> largerOrdinal =
+        injector.getInstance(
+            Key.get(
+                new TypeLiteral<KeyedProvider<Feature, String>>() {},
+                Names.named("largerOrdinal")));
+    assertEquals("red", largerOrdinal.get(Color.RED));
+    assertEquals("large", largerOrdinal.get(Size.LARGE));
+    assertNull(largerOrdinal.get(Size.SMALL));
+  }
+
+  interface Feature {}
+
+  enum Color implements Feature {
+    RED,
+    BLUE
+  }
+
+  enum Size implements Feature {
+    SMALL,
+    MEDIUM,
+    LARGE
+  }
+
+  public void testKeyedProvider_integerKeys() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<Integer, String> dense =
+                  MapBinder.newMapBinder(binder, Integer.class, String.class);
+              dense.addBinding(-1).toInstance("minusOne");
+              dense.addBinding(1).toInstance("one");
+              MapBinder<Integer, String> sparse =
+                  MapBinder.newMapBinder(
+                      binder, Integer.class, String.class, Names.named("sparse"));
+              sparse.addBinding(Integer.MIN_VALUE).toInstance("min");
+              sparse.addBinding(Integer.MAX_VALUE).toInstance("max");
+            });
+
+    KeyedProvider<Integer, String> dense =
+        injector.getInstance(new Key<KeyedProvider<Integer, String>>() {});
+    assertEquals("minusOne", dense.get(-1));
+    assertEquals("one", dense.get(1));
+    assertNull(dense.get(0));
+    assertNull(dense.get(2));
+    assertNull(dense.get(Integer.MIN_VALUE));
+
+    KeyedProvider<Integer, String> sparse =
+        injector.getInstance(
+            Key.get(new TypeLiteral<KeyedProvider<Integer, String>>() {}, Names.named("sparse")));
+    assertEquals("min", sparse.get(Integer.MIN_VALUE));
+    assertEquals("max", sparse.get(Integer.MAX_VALUE));
+    assertNull(sparse.get(0));
+  }
+
+  public void testKeyedProvider_nullValue() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              MapBinder<String, String> mapBinder =
+                  MapBinder.newMapBinder(binder, String.class, String.class);
+              mapBinder.addBinding("a").toProvider(Providers.<String>of(null));
+            });
+
+    KeyedProvider<String, String> keyedProvider =
+        injector.getInstance(new Key<KeyedProvider<String, String>>() {});
+    ProvisionException expected =
+        assertThrows(ProvisionException.class, () -> keyedProvider.get("a"));
+    assertContains(
+        expected.getMessage(), "Map injection failed due to null value for key \"a\", bound at:");
+  }
+
   /**
    * Will find and return the {@link com.google.inject.spi.Element} that is an {@link
    * InstanceBinding} and binds {@code vToFind}.
@@ -4,12 +4,15 @@ import static com.google.common.testing.SerializableTester.reserialize;
 import static com.google.common.truth.Truth.assertThat;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.inject.ProvisionException;
 import com.google.inject.spi.ErrorDetail;
 import com.google.inject.spi.Message;
 import java.util.ArrayList;
 import java.util.Formatter;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -21,6 +24,10 @@ public final class MessagesTest {
       super(message, ImmutableList.of(), null);
     }
 
+    ExampleErrorDetail(Supplier<String> messageSupplier) {
+      super(messageSupplier, ImmutableList.of(), null);
+    }
+
     @Override
     public void formatDetail(List<ErrorDetail<?>> mergeableErrors, Formatter formatter) {
       formatter.format("Duplicate count: %s\n", mergeableErrors.size() + 1);
@@ -75,6 +82,51 @@ public final class MessagesTest {
                 + "2 errors");
   }
 
+  @Test
+  public void lazyMessageIsFormattedOnceWhenRead() {
+    AtomicInteger formatCount = new AtomicInteger();
+    Message message =
+        new Message(
+            GuiceInternal.GUICE_INTERNAL,
+            ErrorId.OTHER,
+            new ExampleErrorDetail(
+                () -> {
+                  formatCount.incrementAndGet();
+                  return "Lazy error";
+                }));
+    ProvisionException exception = new ProvisionException(ImmutableList.of(message));
+    assertThat(formatCount.get()).isEqualTo(0);
+
+    String expected =
+        "Unable to provision, see the following errors:\n\n"
+            + "1) Lazy error\n"
+            + "Duplicate count: 1\n\n"
+            + "1 error";
+    assertThat(exception).hasMessageThat().isEqualTo(expected);
+    assertThat(exception).hasMessageThat().isEqualTo(expected);
+    assertThat(formatCount.get()).isEqualTo(1);
+    assertThat(Iterables.getOnlyElement(reserialize(exception).getErrorMessages()).getMessage())
+        .isEqualTo("Lazy error");
+  }
+
+  @Test
+  public void create_formatsMutableArgumentsEagerly() {
+    StringBuilder mutable = new StringBuilder("before");
+    Message message = Messages.create(ErrorId.OTHER, "%s and %s", mutable, String.class);
+    mutable.append(" and after");
+
+    assertThat(message.getMessage()).isEqualTo("before and java.lang.String");
+  }
+
+  @Test
+  public void create_formatsImmutableArgumentsLazily() {
+    Message message = Messages.create(ErrorId.OTHER, "%s", String.class);
+
+    assertThat(message.getMessage()).isEqualTo("java.lang.String");
+    assertThat(message).isEqualTo(Messages.create(ErrorId.OTHER, "%s", String.class));
+    assertThat(message).isNotEqualTo(Messages.create(ErrorId.OTHER, "%s", Integer.class));
+  }
+
   private static Message exampleError(String message) {
     return new Message(
         GuiceInternal.GUICE_INTERNAL, ErrorId.OTHER, new ExampleErrorDetail(message));
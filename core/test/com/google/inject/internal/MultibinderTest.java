@@ -29,6 +29,7 @@ import static com.google.inject.internal.SpiUtils.instance;
 import static com.google.inject.internal.SpiUtils.providerInstance;
 import static com.google.inject.name.Names.named;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertThrows;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Predicates;
@@ -80,10 +81,12 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import junit.framework.TestCase;
 
@@ -1647,6 +1650,179 @@ public class MultibinderTest extends TestCase {
     }
   }
 
+  public void testProvisionLazily_provisionsElementsAsTheyAreIterated() {
+    AtomicInteger provisionCount = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder =
+                  Multibinder.newSetBinder(binder, String.class).provisionLazily();
+              for (String value : ImmutableList.of("a", "b", "c")) {
+                multibinder
+                    .addBinding()
+                    .toProvider(
+                        (Provider<String>)
+                            () -> {
+                              provisionCount.incrementAndGet();
+                              return value;
+                            });
+              }
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    assertEquals(0, provisionCount.get());
+    assertFalse(set.isEmpty());
+    assertEquals("a", set.iterator().next());
+    assertEquals(1, provisionCount.get());
+    assertThat(set).containsExactly("a", "b", "c").inOrder();
+    assertEquals(3, provisionCount.get());
+    assertEquals(ImmutableSet.of("a", "b", "c"), set);
+    assertEquals(3, provisionCount.get());
+
+    injector.getInstance(Key.get(setOfString)).iterator().next();
+    assertEquals(4, provisionCount.get());
+  }
+
+  public void testProvisionLazily_duplicatesReportedWhenAllElementsAreProvisioned() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder =
+                  Multibinder.newSetBinder(binder, String.class).provisionLazily();
+              // Providers of equal values, which aren't deduplicated as bindings.
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    assertEquals("a", set.iterator().next());
+    ProvisionException expected = assertThrows(ProvisionException.class, set::size);
+    assertContains(
+        expected.getMessage(), "Duplicate elements found in Multibinder Set<String>.");
+  }
+
+  public void testProvisionLazily_duplicatesReportedWhenIterationStopsEarly() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder =
+                  Multibinder.newSetBinder(binder, String.class).provisionLazily();
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "b");
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    ProvisionException expected =
+        assertThrows(
+            ProvisionException.class,
+            () -> {
+              for (String value : set) {
+                if (value.equals("b")) {
+                  break;
+                }
+              }
+            });
+    assertContains(
+        expected.getMessage(),
+        "Duplicate elements found in Multibinder Set<String>.",
+        "Element: a");
+    assertThrows(ProvisionException.class, () -> set.stream().anyMatch("b"::equals));
+  }
+
+  public void testProvisionLazily_permitDuplicates() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder =
+                  Multibinder.newSetBinder(binder, String.class)
+                      .provisionLazily()
+                      .permitDuplicates();
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "b");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a");
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    assertThat(set).containsExactly("a", "b").inOrder();
+    assertEquals(2, set.size());
+  }
+
+  public void testProvisionLazily_nullElement() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder =
+                  Multibinder.newSetBinder(binder, String.class).provisionLazily();
+              multibinder.addBinding().toInstance("a");
+              multibinder.addBinding().toProvider(Providers.<String>of(null));
+            });
+
+    Iterator<String> iterator = injector.getInstance(Key.get(setOfString)).iterator();
+    assertEquals("a", iterator.next());
+    ProvisionException expected = assertThrows(ProvisionException.class, iterator::next);
+    assertContains(expected.getMessage(), "Set injection failed due to null element bound at: ");
+  }
+
+  public void testConstantElements_setIsProvisionedOnce() {
+    AtomicInteger provisionCount = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder = Multibinder.newSetBinder(binder, String.class);
+              multibinder.addBinding().toInstance("a");
+              multibinder
+                  .addBinding()
+                  .toProvider(
+                      (Provider<String>)
+                          () -> {
+                            provisionCount.incrementAndGet();
+                            return "b";
+                          })
+                  .in(Scopes.SINGLETON);
+              multibinder.addBinding().to(Key.get(String.class, named("c")));
+              binder.bind(String.class).annotatedWith(named("c")).toInstance("c");
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    assertThat(set).containsExactly("a", "b", "c").inOrder();
+    assertSame(set, injector.getInstance(Key.get(setOfString)));
+    assertSame(set, injector.getProvider(Key.get(setOfString)).get());
+    assertEquals(1, provisionCount.get());
+  }
+
+  public void testConstantElements_unscopedElementIsProvisionedEachTime() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder = Multibinder.newSetBinder(binder, String.class);
+              multibinder.addBinding().toInstance("a");
+              multibinder.addBinding().toProvider((Provider<String>) () -> "b");
+            });
+
+    Set<String> set = injector.getInstance(Key.get(setOfString));
+    assertThat(set).containsExactly("a", "b").inOrder();
+    assertNotSame(set, injector.getInstance(Key.get(setOfString)));
+  }
+
+  public void testConstantElements_duplicatesReportedOnEachProvision() {
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<String> multibinder = Multibinder.newSetBinder(binder, String.class);
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a").asEagerSingleton();
+              multibinder.addBinding().toProvider((Provider<String>) () -> "a").asEagerSingleton();
+            });
+
+    for (int i = 0; i < 2; i++) {
+      ProvisionException expected =
+          assertThrows(
+              ProvisionException.class, () -> injector.getInstance(Key.get(setOfString)));
+      assertContains(
+          expected.getMessage(), "Duplicate elements found in Multibinder Set<String>.");
+    }
+  }
+
   private <T> Collection<T> collectValues(Collection<? extends Provider<T>> providers) {
     Collection<T> values = Lists.newArrayList();
     for (Provider<T> provider : providers) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.ProvisionListener;
+import com.google.inject.spi.ProvisionListenerBinding;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ProvisionListenerCallbackStoreTest {
+
+  private static final ProvisionListener NOOP_LISTENER =
+      new ProvisionListener() {
+        @Override
+        public <T> void onProvision(ProvisionInvocation<T> provision) {}
+      };
+
+  @Test
+  public void testNoListenerBindings_returnsNoCallbackAndCachesNothing() {
+    ProvisionListenerCallbackStore store = new ProvisionListenerCallbackStore(ImmutableList.of());
+    Binding<String> binding = stringBinding();
+
+    assertThat(store.get(binding)).isNull();
+    assertThat(store.remove(binding)).isFalse();
+  }
+
+  @Test
+  public void testNoMatchingListener_returnsNoCallback() {
+    ProvisionListenerCallbackStore store =
+        new ProvisionListenerCallbackStore(
+            listenerBindings(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    bindListener(Matchers.not(Matchers.any()), NOOP_LISTENER);
+                  }
+                }));
+
+    assertThat(store.get(stringBinding())).isNull();
+  }
+
+  @Test
+  public void testRemove_purgesCachedCallback() {
+    ProvisionListenerCallbackStore store =
+        new ProvisionListenerCallbackStore(
+            listenerBindings(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    bindListener(Matchers.any(), NOOP_LISTENER);
+                  }
+                }));
+    Binding<String> binding = stringBinding();
+
+    assertThat(store.remove(binding)).isFalse();
+    assertThat(store.get(binding).hasListeners()).isTrue();
+    assertThat(store.remove(binding)).isTrue();
+    assertThat(store.remove(binding)).isFalse();
+  }
+
+  private static Binding<String> stringBinding() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(String.class).toInstance("hello");
+              }
+            });
+    return injector.getBinding(String.class);
+  }
+
+  private static List<ProvisionListenerBinding> listenerBindings(Module module) {
+    ImmutableList.Builder<ProvisionListenerBinding> bindings = ImmutableList.builder();
+    for (Object element : Elements.getElements(module)) {
+      if (element instanceof ProvisionListenerBinding) {
+        bindings.add((ProvisionListenerBinding) element);
+      }
+    }
+    return bindings.build();
+  }
+}
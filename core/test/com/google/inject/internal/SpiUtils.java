@@ -19,6 +19,7 @@ package com.google.inject.internal;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.inject.internal.RealMapBinder.entryOfJakartaProviderOf;
 import static com.google.inject.internal.RealMapBinder.entryOfProviderOf;
+import static com.google.inject.internal.RealMapBinder.keyedProviderOf;
 import static com.google.inject.internal.RealMapBinder.mapOf;
 import static com.google.inject.internal.RealMapBinder.mapOfCollectionOfJakartaProviderOf;
 import static com.google.inject.internal.RealMapBinder.mapOfCollectionOfProviderOf;
@@ -194,6 +195,7 @@ public class SpiUtils {
         mapKey.ofType(setOfExtendsOf(entryOfProviderOf(keyType, valueType)));
     Key<?> mapOfKeyExtendsValueKey =
         mapKey.ofType(mapOf(keyType, TypeLiteral.get(Types.subtypeOf(valueType.getType()))));
+    Key<?> keyedProvider = mapKey.ofType(keyedProviderOf(keyType, valueType));
 
     Key<?> mapOfJakartaProvider = mapKey.ofType(mapOfJakartaProviderOf(keyType, valueType));
     Key<?> mapOfSetOfJakartaProvider =
@@ -213,7 +215,8 @@ public class SpiUtils {
             mapOfCollectionOfProvider,
             mapOfCollectionOfJakartaProvider,
             mapOfSet,
-            mapOfKeyExtendsValueKey),
+            mapOfKeyExtendsValueKey,
+            keyedProvider),
         mapbinder.getAlternateMapKeys());
 
     boolean entrySetMatch = false;
@@ -224,6 +227,7 @@ public class SpiUtils {
     boolean collectionOfProvidersOfEntryOfProviderMatch = false;
     boolean setOfExtendsOfEntryOfProviderMatch = false;
     boolean mapOfKeyExtendsValueKeyMatch = false;
+    boolean keyedProviderMatch = false;
 
     boolean jakartaEntrySetMatch = false;
     boolean mapJakartaProviderMatch = false;
@@ -273,6 +277,9 @@ public class SpiUtils {
       } else if (b.getKey().equals(mapOfKeyExtendsValueKey)) {
         assertTrue(contains);
         mapOfKeyExtendsValueKeyMatch = true;
+      } else if (b.getKey().equals(keyedProvider)) {
+        assertTrue(contains);
+        keyedProviderMatch = true;
       } else if (b.getKey().equals(mapOfJakartaProvider)) {
         assertTrue(contains);
         mapJakartaProviderMatch = true;
@@ -321,6 +328,7 @@ public class SpiUtils {
     assertTrue(collectionOfProvidersOfEntryOfProviderMatch);
     assertTrue(setOfExtendsOfEntryOfProviderMatch);
     assertTrue(mapOfKeyExtendsValueKeyMatch);
+    assertTrue(keyedProviderMatch);
     assertTrue(jakartaEntrySetMatch);
     assertTrue(mapJakartaProviderMatch);
     assertTrue(collectionOfJakartaProvidersOfEntryOfProviderMatch);
@@ -404,6 +412,7 @@ public class SpiUtils {
         mapKey.ofType(setOfExtendsOf(entryOfProviderOf(keyType, valueType)));
     Key<?> mapOfKeyExtendsValueKey =
         mapKey.ofType(mapOf(keyType, TypeLiteral.get(Types.subtypeOf(valueType.getType()))));
+    Key<?> keyedProvider = mapKey.ofType(keyedProviderOf(keyType, valueType));
 
     Key<?> mapOfJakartaProvider = mapKey.ofType(mapOfJakartaProviderOf(keyType, valueType));
     Key<?> mapOfSetOfJakartaProvider =
@@ -423,7 +432,8 @@ public class SpiUtils {
             mapOfCollectionOfProvider,
             mapOfCollectionOfJakartaProvider,
             mapOfSet,
-            mapOfKeyExtendsValueKey),
+            mapOfKeyExtendsValueKey,
+            keyedProvider),
         mapbinder.getAlternateMapKeys());
 
     boolean entrySetMatch = false;
@@ -434,6 +444,7 @@ public class SpiUtils {
     boolean collectionOfProvidersOfEntryOfProviderMatch = false;
     boolean setOfExtendsOfEntryOfProviderMatch = false;
     boolean mapOfKeyExtendsValueKeyMatch = false;
+    boolean keyedProviderMatch = false;
 
     boolean entrySetJakartaMatch = false;
     boolean mapJakartaProviderMatch = false;
@@ -523,6 +534,10 @@ public class SpiUtils {
           matched = true;
           assertTrue(contains);
           mapOfKeyExtendsValueKeyMatch = true;
+        } else if (key.equals(keyedProvider)) {
+          matched = true;
+          assertTrue(contains);
+          keyedProviderMatch = true;
         } else if (key.equals(mapOfJakartaProvider)) {
           matched = true;
           assertTrue(contains);
@@ -567,6 +582,7 @@ public class SpiUtils {
     assertTrue(collectionOfProvidersOfEntryOfProviderMatch);
     assertTrue(setOfExtendsOfEntryOfProviderMatch);
     assertTrue(mapOfKeyExtendsValueKeyMatch);
+    assertTrue(keyedProviderMatch);
     assertTrue(entrySetJakartaMatch);
     assertTrue(mapJakartaProviderMatch);
     assertTrue(collectionOfJakartaProvidersOfEntryOfProviderMatch);
@@ -110,6 +110,22 @@ public class WeakKeySetTest extends TestCase {
     awaitClear(weakKeyRef);
   }
 
+  public void testEviction_sameKeyAndSourceTwice() {
+    TestInjectorBindingData bindingData = new TestInjectorBindingData();
+    Key<Integer> key = Key.get(Integer.class);
+    Object source = new Object();
+
+    set.add(key, bindingData, source);
+    set.add(key, bindingData, source);
+    assertInSet(set, key, 1, source);
+
+    bindingData = null;
+
+    awaitFullGc();
+
+    assertNotInSet(set, key);
+  }
+
   public void testEviction_keyOverlap_2x() {
     TestInjectorBindingData bindingData1 = new TestInjectorBindingData();
     TestInjectorBindingData bindingData2 = new TestInjectorBindingData();
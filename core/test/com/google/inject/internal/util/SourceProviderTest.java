@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class SourceProviderTest {
+
+  @Test
+  public void getCaller_sameCallSite_reusesElement() {
+    List<StackTraceElement> callers = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      callers.add(SourceProvider.DEFAULT_INSTANCE.getCaller());
+    }
+    assertThat(callers.get(0)).isSameInstanceAs(callers.get(1));
+    assertThat(callers.get(0).getClassName()).isEqualTo(SourceProviderTest.class.getName());
+    assertThat(callers.get(0).getMethodName()).isEqualTo("getCaller_sameCallSite_reusesElement");
+  }
+
+  @Test
+  public void getCaller_differentCallSites_distinctElements() {
+    StackTraceElement first = SourceProvider.DEFAULT_INSTANCE.getCaller();
+    StackTraceElement second = SourceProvider.DEFAULT_INSTANCE.getCaller();
+    assertThat(second).isNotEqualTo(first);
+    assertThat(second.getLineNumber()).isGreaterThan(first.getLineNumber());
+  }
+
+  @Test
+  public void getCaller_skippedClasses() {
+    StackTraceElement caller =
+        SourceProvider.DEFAULT_INSTANCE.plusSkippedClasses(Helper.class).getCaller();
+    StackTraceElement skipped =
+        Helper.getCaller(SourceProvider.DEFAULT_INSTANCE.plusSkippedClasses(Helper.class));
+    assertThat(skipped.getMethodName()).isEqualTo(caller.getMethodName());
+    assertThat(skipped.getLineNumber()).isGreaterThan(caller.getLineNumber());
+  }
+
+  private static final class Helper {
+    static StackTraceElement getCaller(SourceProvider sourceProvider) {
+      return sourceProvider.getCaller();
+    }
+  }
+}
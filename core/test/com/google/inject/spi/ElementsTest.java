@@ -22,17 +22,22 @@ import static com.google.inject.Asserts.assertContains;
 import static com.google.inject.Asserts.getDeclaringSourcePart;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
 import com.google.inject.Binding;
 import com.google.inject.BindingAnnotation;
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
 import com.google.inject.Module;
 import com.google.inject.PrivateBinder;
 import com.google.inject.Provider;
+import com.google.inject.Provides;
 import com.google.inject.Scope;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
@@ -42,10 +47,13 @@ import com.google.inject.binder.AnnotatedBindingBuilder;
 import com.google.inject.binder.AnnotatedConstantBindingBuilder;
 import com.google.inject.binder.ConstantBindingBuilder;
 import com.google.inject.binder.ScopedBindingBuilder;
+import com.google.inject.internal.InternalFlags;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
 import com.google.inject.util.Providers;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
@@ -56,6 +64,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -1394,6 +1403,156 @@ public class ElementsTest extends TestCase {
     assertThat(installedModules.get(0)).isInstanceOf(TestModule.class);
   }
 
+  public void testFreeze_configuresModulesOnce() {
+    AtomicInteger configureCount = new AtomicInteger(0);
+    Module frozen =
+        Elements.freeze(
+            binder -> {
+              configureCount.incrementAndGet();
+              binder.bind(String.class).toInstance("foo");
+            });
+
+    assertEquals("foo", Guice.createInjector(frozen).getInstance(String.class));
+    assertEquals("foo", Guice.createInjector(frozen).getInstance(String.class));
+    assertEquals(1, configureCount.get());
+
+    Guice.createInjector(Stage.PRODUCTION, frozen);
+    assertEquals(2, configureCount.get());
+  }
+
+  public void testFreeze_bindsProviderMethodsAndMultibindersToEachInjector() {
+    Module frozen = Elements.freeze(new FrozenModule());
+    Injector first = Guice.createInjector(frozen);
+    Injector second = Guice.createInjector(frozen);
+
+    assertNotSame(first.getInstance(Object.class), second.getInstance(Object.class));
+    assertSame(first.getInstance(Object.class), first.getInstance(Object.class));
+    assertEquals(ImmutableSet.of("a", "b"), first.getInstance(new Key<Set<String>>() {}));
+    assertEquals(ImmutableSet.of("a", "b"), second.getInstance(new Key<Set<String>>() {}));
+  }
+
+  public void testFreeze_reportsErrorsInEachInjector() {
+    Module frozen = Elements.freeze(binder -> binder.addError("Bad configuration"));
+    for (int i = 0; i < 2; i++) {
+      try {
+        Guice.createInjector(frozen);
+        fail();
+      } catch (CreationException expected) {
+        assertContains(expected.getMessage(), "Bad configuration");
+      }
+    }
+  }
+
+  public void testFreeze_rejectsElementsTiedToAnInjector() {
+    List<Module> modules =
+        ImmutableList.of(
+            binder -> binder.bind(A.class).toInstance(new A<>()),
+            binder -> binder.bind(String.class).toProvider(() -> "foo"),
+            binder -> binder.requestInjection(new A<>()),
+            binder -> binder.getProvider(String.class),
+            binder -> binder.getMembersInjector(String.class),
+            binder -> {
+              PrivateBinder privateBinder = binder.newPrivateBinder();
+              privateBinder.getProvider(String.class);
+            });
+    for (Module module : modules) {
+      Module frozen = Elements.freeze(module);
+      for (int i = 0; i < 2; i++) {
+        try {
+          Guice.createInjector(frozen);
+          fail();
+        } catch (CreationException expected) {
+          assertContains(expected.getMessage(), "can't share", "between injectors");
+        }
+      }
+    }
+  }
+
+  public void testSharedModules_configuresTopLevelModulesOnce() {
+    AtomicInteger sharedCount = new AtomicInteger(0);
+    AtomicInteger topLevelCount = new AtomicInteger(0);
+    Module first =
+        binder -> {
+          topLevelCount.incrementAndGet();
+          binder.install(new SharedModule(sharedCount));
+          binder.bind(String.class).toInstance("first");
+        };
+    Module second =
+        binder -> {
+          topLevelCount.incrementAndGet();
+          binder.install(new SharedModule(sharedCount));
+          binder.bind(Integer.class).toInstance(2);
+        };
+
+    List<Element> elements = Elements.getElements(first, second);
+    assertEquals(2, topLevelCount.get());
+    // When recording concurrently, each top-level module configures the modules it installs.
+    assertEquals(InternalFlags.isParallelModuleRecordingEnabled() ? 2 : 1, sharedCount.get());
+    assertEquals(
+        ImmutableList.of(
+            "Binding java.lang.Long", "Binding java.lang.String", "Binding java.lang.Integer"),
+        describe(elements));
+  }
+
+  public void testSharedMultibinders_keepsElementOrder() {
+    Module first =
+        binder -> Multibinder.newSetBinder(binder, String.class).addBinding().toInstance("a");
+    Module second =
+        binder -> {
+          Multibinder<String> strings = Multibinder.newSetBinder(binder, String.class);
+          strings.addBinding().toInstance("b");
+          strings.addBinding().toInstance("c");
+        };
+
+    List<Element> elements = Elements.getElements(first, second);
+    assertEquals(describe(getElementsSerially(first, second)), describe(elements));
+    Injector injector = Guice.createInjector(Elements.getModule(elements));
+    assertEquals(
+        ImmutableList.of("a", "b", "c"),
+        ImmutableList.copyOf(injector.getInstance(new Key<Set<String>>() {})));
+  }
+
+  public void testEqualModulesInstallingDifferentModules_installsAsSerially() {
+    AtomicInteger sharedCount = new AtomicInteger(0);
+    Module first = binder -> binder.install(new InstallingModule(Modules.EMPTY_MODULE));
+    Module second =
+        binder -> {
+          // Left out since it's equal to the module installed by first, so SharedModule is only
+          // installed afterwards.
+          binder.install(new InstallingModule(new SharedModule(sharedCount)));
+          binder.bind(String.class).toInstance("second");
+          binder.install(new SharedModule(sharedCount));
+        };
+
+    List<Element> elements = Elements.getElements(first, second);
+    assertEquals(
+        ImmutableList.of("Binding java.lang.String", "Binding java.lang.Long"), describe(elements));
+    assertEquals(describe(getElementsSerially(first, second)), describe(elements));
+  }
+
+  /** Records the elements of {@code modules} installed by a single top-level module. */
+  private static List<Element> getElementsSerially(Module... modules) {
+    return Elements.getElements(
+        binder -> {
+          for (Module module : modules) {
+            binder.install(module);
+          }
+        });
+  }
+
+  /** Describes the elements as bindings of their type or by the type of element. */
+  private static List<String> describe(List<Element> elements) {
+    List<String> descriptions = new ArrayList<>();
+    for (Element element : elements) {
+      if (element instanceof Binding) {
+        descriptions.add("Binding " + ((Binding<?>) element).getKey().getTypeLiteral());
+      } else {
+        descriptions.add(element.getClass().getSimpleName());
+      }
+    }
+    return descriptions;
+  }
+
   /** Ensures the module performs the commands consistent with {@code visitors}. */
   protected void checkModule(Module module, ElementVisitor<?>... visitors) {
     List<Element> elements = Elements.getElements(module);
@@ -1480,4 +1639,104 @@ public class ElementsTest extends TestCase {
       }
     }
   }
+
+  /** Binds a long. Instances are equal so that only one of them is installed. */
+  private static class SharedModule extends AbstractModule {
+    private final AtomicInteger configureCount;
+
+    SharedModule(AtomicInteger configureCount) {
+      this.configureCount = configureCount;
+    }
+
+    @Override
+    protected void configure() {
+      configureCount.incrementAndGet();
+      bind(Long.class).toInstance(1L);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof SharedModule;
+    }
+
+    @Override
+    public int hashCode() {
+      return SharedModule.class.hashCode();
+    }
+  }
+
+  /** Installs a module. Instances are equal whichever module they install. */
+  private static class InstallingModule extends AbstractModule {
+    private final Module module;
+
+    InstallingModule(Module module) {
+      this.module = module;
+    }
+
+    @Override
+    protected void configure() {
+      install(module);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof InstallingModule;
+    }
+
+    @Override
+    public int hashCode() {
+      return InstallingModule.class.hashCode();
+    }
+  }
+
+  private static class FrozenModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      Multibinder<String> strings = Multibinder.newSetBinder(binder(), String.class);
+      strings.addBinding().toInstance("a");
+      strings.addBinding().toInstance("b");
+    }
+
+    @Provides
+    @Singleton
+    Object provideObject() {
+      return new Object();
+    }
+  }
+
+  public void testTopLevelModules_seeTheCallersContextClassLoader() {
+    ClassLoader contextClassLoader = new ClassLoader(ElementsTest.class.getClassLoader()) {};
+    List<ClassLoader> seen = Collections.synchronizedList(new ArrayList<>());
+    Module first = binder -> seen.add(Thread.currentThread().getContextClassLoader());
+    Module second = binder -> seen.add(Thread.currentThread().getContextClassLoader());
+
+    Thread thread = Thread.currentThread();
+    ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    try {
+      Elements.getElements(first, second);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+    assertEquals(ImmutableList.of(contextClassLoader, contextClassLoader), seen);
+  }
+
+  public void testTopLevelModules_createInjectorsWhileConfigured() {
+    List<Module> modules = new ArrayList<>();
+    for (int i = 0; i < 2 * Runtime.getRuntime().availableProcessors(); i++) {
+      int value = i;
+      modules.add(
+          binder -> {
+            Injector injector =
+                Guice.createInjector(
+                    inner -> inner.bind(Integer.class).toInstance(value),
+                    inner -> inner.bind(String.class).toInstance("inner"));
+            binder
+                .bind(Key.get(Integer.class, Names.named("value" + value)))
+                .toInstance(injector.getInstance(Integer.class));
+          });
+    }
+
+    assertEquals(modules.size(), Elements.getElements(modules).size());
+  }
 }
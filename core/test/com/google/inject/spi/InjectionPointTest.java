@@ -270,6 +270,31 @@ public class InjectionPointTest extends TestCase {
     TooManyConstructorsWithOptional(String str) {}
   }
 
+  public void testInjectionPointsOfClassesAreShared() {
+    assertSame(
+        InjectionPoint.forConstructorOf(Constructable.class),
+        InjectionPoint.forConstructorOf(TypeLiteral.get(Constructable.class)));
+    assertSame(
+        InjectionPoint.forInstanceMethodsAndFields(HasInjections.class),
+        InjectionPoint.forInstanceMethodsAndFields(HasInjections.class));
+    assertSame(
+        InjectionPoint.forStaticMethodsAndFields(HasInjections.class),
+        InjectionPoint.forStaticMethodsAndFields(HasInjections.class));
+  }
+
+  public void testInjectionPointErrorsOfClassesAreRethrown() {
+    ConfigurationException first =
+        assertThrows(
+            ConfigurationException.class,
+            () -> InjectionPoint.forConstructorOf(TooManyConstructors.class));
+    ConfigurationException second =
+        assertThrows(
+            ConfigurationException.class,
+            () -> InjectionPoint.forConstructorOf(TooManyConstructors.class));
+    assertNotSame(first, second);
+    assertEquals(first.getErrorMessages(), second.getErrorMessages());
+  }
+
   public void testAddForInstanceMethodsAndFields() throws Exception {
     Method instanceMethod = HasInjections.class.getMethod("instanceMethod", String.class);
     Field instanceField = HasInjections.class.getField("instanceField");
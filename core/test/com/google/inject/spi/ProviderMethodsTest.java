@@ -1157,6 +1157,56 @@ public class ProviderMethodsTest implements Module {
         Stage.PRODUCTION, new DeduplicateStaticModule(), new DeduplicateStaticModule());
   }
 
+  static final class ScannedModule extends AbstractModule {
+    @Provides
+    String provideString(Integer value) {
+      return "value" + value;
+    }
+
+    @Provides
+    Integer provideInteger() {
+      return 1;
+    }
+  }
+
+  @Test
+  public void testProviderMethodsAreScannedOncePerModuleClass() {
+    Binding<String> first = Guice.createInjector(new ScannedModule()).getBinding(String.class);
+    Binding<String> second = Guice.createInjector(new ScannedModule()).getBinding(String.class);
+
+    InjectionPoint firstPoint =
+        Iterables.getOnlyElement(((HasDependencies) first).getDependencies()).getInjectionPoint();
+    InjectionPoint secondPoint =
+        Iterables.getOnlyElement(((HasDependencies) second).getDependencies()).getInjectionPoint();
+    assertSame(firstPoint, secondPoint);
+    assertEquals("value1", first.getProvider().get());
+    assertEquals("value1", second.getProvider().get());
+  }
+
+  static class OverriddenProvidesModule extends SuperClassModule {
+    @Override
+    @Provides
+    Number providerMethod() {
+      return 2D;
+    }
+  }
+
+  @Test
+  public void testOverrideProviderMethod_reportedForEachInjector() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        Guice.createInjector(new OverriddenProvidesModule());
+        fail();
+      } catch (CreationException e) {
+        assertContains(
+            e.getMessage(),
+            "Overriding @Provides methods is not allowed.",
+            "@Provides method: ProviderMethodsTest$SuperClassModule.providerMethod()",
+            "overridden by: ProviderMethodsTest$OverriddenProvidesModule.providerMethod()");
+      }
+    }
+  }
+
   private void runNullableTest(Injector injector, Dependency<?> dependency, Module module) {
     switch (InternalFlags.getNullableProvidesOption()) {
       case ERROR:
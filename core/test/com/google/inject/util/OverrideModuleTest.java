@@ -24,6 +24,7 @@ import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
@@ -31,6 +32,7 @@ import com.google.inject.Binding;
 import com.google.inject.CreationException;
 import com.google.inject.Exposed;
 import com.google.inject.Guice;
+import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
@@ -40,16 +42,25 @@ import com.google.inject.Provides;
 import com.google.inject.Scope;
 import com.google.inject.ScopeAnnotation;
 import com.google.inject.Stage;
+import com.google.inject.multibindings.MapBinder;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.ModuleAnnotatedMethodScanner;
+import com.google.inject.spi.ProviderInstanceBinding;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import junit.framework.TestCase;
 
@@ -851,4 +862,165 @@ public class OverrideModuleTest extends TestCase {
       return key.withAnnotation(Names.named(((Named) key.getAnnotation()).value() + "-munged"));
     }
   }
+
+  public void testOverrideReusingElements_configuresBaseModulesOnce() {
+    AtomicInteger configureCount = new AtomicInteger();
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(
+            binder -> {
+              configureCount.incrementAndGet();
+              binder.bind(String.class).toInstance("A");
+              binder.bind(key2).toInstance("2");
+            });
+
+    Injector first = createInjector(builder.with(binder -> binder.bind(key2).toInstance("B")));
+    Injector second = createInjector(builder.with(binder -> binder.bind(key2).toInstance("C")));
+    Injector third = createInjector(builder.with());
+
+    assertEquals(1, configureCount.get());
+    assertEquals("A", first.getInstance(String.class));
+    assertEquals("B", first.getInstance(key2));
+    assertEquals("A", second.getInstance(String.class));
+    assertEquals("C", second.getInstance(key2));
+    assertEquals("2", third.getInstance(key2));
+  }
+
+  public void testOverrideReusingElements_recordsEachStage() {
+    AtomicInteger configureCount = new AtomicInteger();
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(binder -> configureCount.incrementAndGet());
+
+    createInjector(Stage.DEVELOPMENT, builder.with());
+    createInjector(Stage.TOOL, builder.with());
+    createInjector(Stage.TOOL, builder.with());
+
+    assertEquals(2, configureCount.get());
+  }
+
+  public void testOverrideReusingElements_privateModule() {
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(
+            new PrivateModule() {
+              @Override
+              protected void configure() {
+                bind(key2).toInstance("2");
+                bind(String.class).to(key2);
+                expose(String.class);
+              }
+            });
+
+    for (String value : new String[] {"B", "C"}) {
+      Injector injector =
+          createInjector(builder.with(binder -> binder.bind(key2).toInstance(value)));
+      assertEquals(value, injector.getInstance(String.class));
+    }
+  }
+
+  public void testOverrideReusingElements_bindsProviderMethodsAndMultibindersToEachInjector() {
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(new ReusedProductionModule());
+
+    for (int value = 2; value < 5; value++) {
+      int overridden = value;
+      Injector injector =
+          createInjector(builder.with(binder -> binder.bind(Integer.class).toInstance(overridden)));
+      assertEquals("p" + value, injector.getInstance(String.class));
+      assertEquals(ImmutableSet.of(value), injector.getInstance(new Key<Set<Integer>>() {}));
+      assertEquals(
+          ImmutableMap.of("key", value), injector.getInstance(new Key<Map<String, Integer>>() {}));
+      assertEquals(Optional.of(value), injector.getInstance(new Key<Optional<Integer>>() {}));
+    }
+  }
+
+  public void testOverrideReusingElements_injectsMembersOfEachInjectorsInstances() {
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(
+            binder -> {
+              binder.bind(InjectedInstance.class).toInstance(new InjectedInstance());
+              binder.bind(String.class).toProvider(new InjectedProvider());
+            });
+
+    Injector first = createInjector(builder.with());
+    InjectedInstance firstInstance = first.getInstance(InjectedInstance.class);
+    InjectedProvider firstProvider = getInjectedProvider(first);
+    Injector second = createInjector(builder.with());
+    InjectedInstance secondInstance = second.getInstance(InjectedInstance.class);
+    InjectedProvider secondProvider = getInjectedProvider(second);
+
+    assertNotSame(firstInstance, secondInstance);
+    assertNotSame(firstProvider, secondProvider);
+    assertSame(first, firstInstance.injector);
+    assertSame(first, firstProvider.injector);
+    assertEquals(1, firstInstance.injectionCount);
+    assertEquals(1, firstProvider.injectionCount);
+    assertSame(second, secondInstance.injector);
+    assertSame(second, secondProvider.injector);
+  }
+
+  public void testOverrideReusingElements_lookupsUseEachInjector() {
+    List<Provider<String>> lookups = new ArrayList<>();
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(
+            binder -> {
+              binder.bind(key2).toInstance("2");
+              lookups.add(binder.getProvider(key2));
+            });
+
+    createInjector(builder.with(binder -> binder.bind(key2).toInstance("B")));
+    createInjector(builder.with(binder -> binder.bind(key2).toInstance("C")));
+
+    assertEquals(2, lookups.size());
+    assertEquals("B", lookups.get(0).get());
+    assertEquals("C", lookups.get(1).get());
+  }
+
+  private static InjectedProvider getInjectedProvider(Injector injector) {
+    return (InjectedProvider)
+        ((ProviderInstanceBinding<String>) injector.getBinding(String.class))
+            .getUserSuppliedProvider();
+  }
+
+  static class InjectedInstance {
+    Injector injector;
+    int injectionCount;
+
+    @Inject
+    void inject(Injector injector) {
+      this.injector = injector;
+      injectionCount++;
+    }
+  }
+
+  static class InjectedProvider implements Provider<String> {
+    Injector injector;
+    int injectionCount;
+
+    @Inject
+    void inject(Injector injector) {
+      this.injector = injector;
+      injectionCount++;
+    }
+
+    @Override
+    public String get() {
+      return "provided";
+    }
+  }
+
+  static class ReusedProductionModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(Integer.class).toInstance(1);
+      Multibinder.newSetBinder(binder(), Integer.class).addBinding().to(Integer.class);
+      MapBinder.newMapBinder(binder(), String.class, Integer.class)
+          .addBinding("key")
+          .to(Integer.class);
+      OptionalBinder.newOptionalBinder(binder(), Integer.class);
+    }
+
+    @Provides
+    String provideString(Integer value) {
+      return "p" + value;
+    }
+  }
 }
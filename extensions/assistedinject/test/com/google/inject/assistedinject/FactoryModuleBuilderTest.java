@@ -40,6 +40,7 @@ import com.google.inject.spi.Element;
 import com.google.inject.spi.Elements;
 import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.Message;
+import com.google.inject.util.Modules;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -642,4 +643,15 @@ public class FactoryModuleBuilderTest extends TestCase {
     @Inject
     public AssistedSingleton(@SuppressWarnings("unused") @Assisted String string) {}
   }
+
+  public void testOverrideReusingElements_bindsFactoryToEachInjector() {
+    Modules.OverriddenModuleBuilder builder =
+        Modules.overrideReusingElements(new FactoryModuleBuilder().build(MustangFactory.class));
+    MustangFactory first = Guice.createInjector(builder.with()).getInstance(MustangFactory.class);
+    MustangFactory second = Guice.createInjector(builder.with()).getInstance(MustangFactory.class);
+
+    assertNotSame(first, second);
+    assertEquals(Color.RED, first.create(Color.RED).color);
+    assertEquals(Color.BLUE, second.create(Color.BLUE).color);
+  }
 }
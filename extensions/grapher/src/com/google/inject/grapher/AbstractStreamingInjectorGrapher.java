@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Abstract injector grapher that renders the nodes and edges of each binding as soon as the binding
+ * is reached, instead of building the whole graph first. Only the keys that have been reached are
+ * kept while graphing, so large injectors can be graphed with bounded memory.
+ *
+ * <p>Bindings are walked breadth-first from the root keys. Use {@link #setMaxDepth} to only graph
+ * the bindings within a number of dependencies of the root keys. Aliased nodes, such as the {@code
+ * Provider<T>} of a {@code T}, aren't counted as a dependency.
+ *
+ * <p>An edge may be rendered before the node it points to, but every node that an edge points to is
+ * rendered before {@link #finish}.
+ *
+ * @since 7.1
+ */
+public abstract class AbstractStreamingInjectorGrapher implements InjectorGrapher {
+  private final RootKeySetCreator rootKeySetCreator;
+  private final AliasCreator aliasCreator;
+  private final NodeCreator nodeCreator;
+  private final EdgeCreator edgeCreator;
+  private final TransitiveDependencyVisitor keyVisitor = new TransitiveDependencyVisitor();
+
+  /** The index of each key that has been reached, which identifies its nodes. */
+  private final Map<Key<?>, Integer> keyIndices = Maps.newHashMap();
+
+  private final Map<NodeId, NodeId> aliases = Maps.newHashMap();
+  private final Queue<PendingBinding> pendingBindings = new ArrayDeque<>();
+
+  private Injector injector;
+  private int maxDepth = Integer.MAX_VALUE;
+
+  public AbstractStreamingInjectorGrapher() {
+    this(new AbstractInjectorGrapher.GrapherParameters());
+  }
+
+  public AbstractStreamingInjectorGrapher(AbstractInjectorGrapher.GrapherParameters options) {
+    this.rootKeySetCreator = options.getRootKeySetCreator();
+    this.aliasCreator = options.getAliasCreator();
+    this.nodeCreator = options.getNodeCreator();
+    this.edgeCreator = options.getEdgeCreator();
+  }
+
+  /**
+   * Sets the maximum number of dependencies between a root key and a graphed binding. With a
+   * maximum depth of 0, only the bindings of the root keys are graphed. There's no maximum by
+   * default.
+   */
+  public void setMaxDepth(int maxDepth) {
+    checkArgument(maxDepth >= 0, "maxDepth must not be negative: %s", maxDepth);
+    this.maxDepth = maxDepth;
+  }
+
+  @Override
+  public final void graph(Injector injector) throws IOException {
+    graph(injector, rootKeySetCreator.getRootKeys(injector));
+  }
+
+  @Override
+  public final void graph(Injector injector, Set<Key<?>> root) throws IOException {
+    this.injector = injector;
+    try {
+      start();
+      for (Key<?> key : root) {
+        reach(key, 0);
+      }
+      PendingBinding pending;
+      while ((pending = pendingBindings.poll()) != null) {
+        render(pending.binding, pending.depth);
+      }
+      finish();
+    } finally {
+      this.injector = null;
+      keyIndices.clear();
+      aliases.clear();
+      pendingBindings.clear();
+    }
+  }
+
+  /** Starts rendering a new graph. */
+  protected abstract void start() throws IOException;
+
+  /** Adds a new interface node to the graph. */
+  protected abstract void newInterfaceNode(InterfaceNode node) throws IOException;
+
+  /** Adds a new implementation node to the graph. */
+  protected abstract void newImplementationNode(ImplementationNode node) throws IOException;
+
+  /** Adds a new instance node to the graph. */
+  protected abstract void newInstanceNode(InstanceNode node) throws IOException;
+
+  /** Adds a new dependency edge to the graph. */
+  protected abstract void newDependencyEdge(DependencyEdge edge) throws IOException;
+
+  /** Adds a new binding edge to the graph. */
+  protected abstract void newBindingEdge(BindingEdge edge) throws IOException;
+
+  /** Finishes rendering the graph, after all nodes and edges have been added. */
+  protected abstract void finish() throws IOException;
+
+  /**
+   * Returns a short identifier for a node of the graph that is being rendered. The identifier is
+   * the same every time it's requested for the same node while rendering a graph.
+   */
+  protected final String getNodeIdentifier(NodeId nodeId) {
+    Integer index = keyIndices.get(nodeId.getKey());
+    checkArgument(index != null, "%s isn't in the graph", nodeId);
+    return (nodeId.getNodeType() == NodeId.NodeType.TYPE ? "t" : "i") + index;
+  }
+
+  /** Queues the binding for {@code key} to be rendered, unless it has already been reached. */
+  private void reach(Key<?> key, int depth) {
+    if (keyIndices.containsKey(key)) {
+      return;
+    }
+    keyIndices.put(key, keyIndices.size());
+    Binding<?> binding = injector.getBinding(key);
+    pendingBindings.add(new PendingBinding(binding, depth));
+
+    // Reach the targets of aliases right away, so that edges to aliased nodes can be resolved
+    // without waiting for the aliased binding to be rendered.
+    for (Alias alias : aliasCreator.createAliases(ImmutableList.<Binding<?>>of(binding))) {
+      aliases.put(alias.getFromId(), alias.getToId());
+      reach(alias.getToId().getKey(), depth);
+    }
+  }
+
+  private void render(Binding<?> binding, int depth) throws IOException {
+    if (depth < maxDepth) {
+      for (Key<?> key : binding.acceptTargetVisitor(keyVisitor)) {
+        reach(key, depth + 1);
+      }
+    }
+
+    Iterable<Binding<?>> bindings = ImmutableList.<Binding<?>>of(binding);
+    for (Node node : nodeCreator.getNodes(bindings)) {
+      // Only render nodes that aren't aliased to some other node.
+      if (!aliases.containsKey(node.getId())) {
+        if (node instanceof InterfaceNode) {
+          newInterfaceNode((InterfaceNode) node);
+        } else if (node instanceof ImplementationNode) {
+          newImplementationNode((ImplementationNode) node);
+        } else {
+          newInstanceNode((InstanceNode) node);
+        }
+      }
+    }
+
+    for (Edge edge : edgeCreator.getEdges(bindings)) {
+      // Edges to keys that are deeper than the maximum depth are left out, along with their nodes.
+      if (!keyIndices.containsKey(edge.getToId().getKey())) {
+        continue;
+      }
+      edge = edge.copy(resolveAlias(edge.getFromId()), resolveAlias(edge.getToId()));
+      if (!edge.getFromId().equals(edge.getToId())) {
+        if (edge instanceof BindingEdge) {
+          newBindingEdge((BindingEdge) edge);
+        } else {
+          newDependencyEdge((DependencyEdge) edge);
+        }
+      }
+    }
+  }
+
+  /** Transitively resolves aliases. Given aliases (X to Y) and (Y to Z), X is resolved to Z. */
+  private NodeId resolveAlias(NodeId nodeId) {
+    NodeId resolved = aliases.get(nodeId);
+    while (resolved != null) {
+      nodeId = resolved;
+      resolved = aliases.get(nodeId);
+    }
+    return nodeId;
+  }
+
+  private static final class PendingBinding {
+    final Binding<?> binding;
+    final int depth;
+
+    PendingBinding(Binding<?> binding, int depth) {
+      this.binding = binding;
+      this.depth = depth;
+    }
+  }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Index of the dependencies between the keys of an injector, for answering questions such as "what
+ * transitively depends on this key?" without walking the bindings again. For example, to find the
+ * longest chain of dependencies that is constructed along with the eager singletons:
+ *
+ * <pre>{@code
+ * DependencyIndex index = DependencyIndex.create(injector);
+ * List<Key<?>> path = index.getLongestDependencyPath(eagerSingletonKeys);
+ * }</pre>
+ *
+ * <p>The index is built once from the bindings of the injector and the keys they transitively
+ * depend on, including just-in-time bindings and bindings inherited from parent injectors. The
+ * dependencies of a binding are the keys returned by {@link TransitiveDependencyVisitor}, and the
+ * keys of its {@link HasDependencies#getDependencies dependencies}. A dependency on a {@code
+ * Provider<T>} is a dependency on the {@code Provider<T>} key, which in turn depends on {@code T}.
+ *
+ * <p>Queries are thread-safe. Reachability queries that reach many keys at once are traversed in
+ * parallel.
+ *
+ * @since 7.1
+ */
+public final class DependencyIndex {
+  /** The minimum number of keys at the same distance for their edges to be followed in parallel. */
+  private static final int PARALLEL_THRESHOLD = 1024;
+
+  private final ImmutableList<Key<?>> keys;
+  private final Map<Key<?>, Integer> keyIndices;
+
+  /**
+   * The dependencies of the key with index {@code i} are the indices in {@code
+   * dependencies[dependencyOffsets[i]]} up to {@code dependencies[dependencyOffsets[i + 1]]}.
+   */
+  private final int[] dependencyOffsets;
+
+  private final int[] dependencies;
+
+  /** Same as {@link #dependencyOffsets} and {@link #dependencies}, but for dependents. */
+  private final int[] dependentOffsets;
+
+  private final int[] dependents;
+
+  private final Supplier<Components> components = Suppliers.memoize(this::findComponents);
+
+  private DependencyIndex(
+      ImmutableList<Key<?>> keys,
+      Map<Key<?>, Integer> keyIndices,
+      int[] edgeSources,
+      int[] edgeTargets,
+      int edgeCount) {
+    this.keys = keys;
+    this.keyIndices = keyIndices;
+    this.dependencyOffsets = new int[keys.size() + 1];
+    this.dependencies = new int[edgeCount];
+    this.dependentOffsets = new int[keys.size() + 1];
+    this.dependents = new int[edgeCount];
+    groupEdges(edgeSources, edgeTargets, edgeCount, dependencyOffsets, dependencies);
+    groupEdges(edgeTargets, edgeSources, edgeCount, dependentOffsets, dependents);
+  }
+
+  /** Returns an index of the dependencies between the keys of {@code injector}. */
+  public static DependencyIndex create(Injector injector) {
+    ImmutableList.Builder<Key<?>> keys = ImmutableList.builder();
+    Map<Key<?>, Integer> keyIndices = Maps.newHashMap();
+    Deque<Key<?>> pending = new ArrayDeque<>();
+    for (Key<?> key : injector.getAllBindings().keySet()) {
+      keyIndices.put(key, keyIndices.size());
+      keys.add(key);
+      pending.add(key);
+    }
+
+    TransitiveDependencyVisitor keyVisitor = new TransitiveDependencyVisitor();
+    int[] edgeSources = new int[16];
+    int[] edgeTargets = new int[16];
+    int edgeCount = 0;
+    Key<?> key;
+    while ((key = pending.poll()) != null) {
+      Binding<?> binding = injector.getExistingBinding(key);
+      if (binding == null) {
+        continue;
+      }
+      Set<Key<?>> bindingDependencies;
+      Collection<Key<?>> visitedKeys = binding.acceptTargetVisitor(keyVisitor);
+      if (binding instanceof HasDependencies) {
+        ImmutableSet.Builder<Key<?>> builder = ImmutableSet.<Key<?>>builder().addAll(visitedKeys);
+        for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+          builder.add(dependency.getKey());
+        }
+        bindingDependencies = builder.build();
+      } else {
+        bindingDependencies = ImmutableSet.copyOf(visitedKeys);
+      }
+
+      int source = keyIndices.get(key);
+      for (Key<?> dependency : bindingDependencies) {
+        Integer target = keyIndices.get(dependency);
+        if (target == null) {
+          target = keyIndices.size();
+          keyIndices.put(dependency, target);
+          keys.add(dependency);
+          pending.add(dependency);
+        }
+        if (edgeCount == edgeSources.length) {
+          edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+          edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+        }
+        edgeSources[edgeCount] = source;
+        edgeTargets[edgeCount] = target;
+        edgeCount++;
+      }
+    }
+    return new DependencyIndex(keys.build(), keyIndices, edgeSources, edgeTargets, edgeCount);
+  }
+
+  /** Returns all keys in the index, including the dependencies that have no binding. */
+  public ImmutableList<Key<?>> getKeys() {
+    return keys;
+  }
+
+  /** Returns the keys that {@code key} directly depends on. */
+  public ImmutableSet<Key<?>> getDependencies(Key<?> key) {
+    return toKeys(dependencyOffsets, dependencies, indexOf(key));
+  }
+
+  /** Returns the keys that directly depend on {@code key}. */
+  public ImmutableSet<Key<?>> getDependents(Key<?> key) {
+    return toKeys(dependentOffsets, dependents, indexOf(key));
+  }
+
+  /**
+   * Returns the keys that any of {@code keys} transitively depends on. A key of {@code keys} is
+   * only included if one of {@code keys} transitively depends on it.
+   */
+  public ImmutableSet<Key<?>> getTransitiveDependencies(Set<Key<?>> keys) {
+    return reach(keys, dependencyOffsets, dependencies);
+  }
+
+  /**
+   * Returns the keys that transitively depend on any of {@code keys}. A key of {@code keys} is only
+   * included if it transitively depends on one of {@code keys}.
+   */
+  public ImmutableSet<Key<?>> getTransitiveDependents(Set<Key<?>> keys) {
+    return reach(keys, dependentOffsets, dependents);
+  }
+
+  /**
+   * Returns the dependency cycles between keys. Each cycle is a strongly connected component: a set
+   * of keys that all transitively depend on each other, or a single key that depends on itself.
+   * Cycles are returned in dependency order, so a cycle never depends on a cycle that follows it.
+   */
+  public ImmutableList<ImmutableSet<Key<?>>> getCycles() {
+    return components.get().cycles;
+  }
+
+  /**
+   * Returns the longest path of dependencies that starts with one of {@code keys}. The path starts
+   * with that key, and each following key is a dependency of the key before it. Dependencies
+   * between keys of the same {@linkplain #getCycles cycle} aren't followed, so that no key is in
+   * the path twice. Returns an empty path if {@code keys} is empty.
+   */
+  public ImmutableList<Key<?>> getLongestDependencyPath(Set<Key<?>> keys) {
+    Components components = this.components.get();
+    int start = -1;
+    for (Key<?> key : keys) {
+      int index = indexOf(key);
+      if (start == -1 || components.pathLengths[index] > components.pathLengths[start]) {
+        start = index;
+      }
+    }
+    ImmutableList.Builder<Key<?>> path = ImmutableList.builder();
+    for (int index = start; index != -1; index = components.nextOnPath[index]) {
+      path.add(this.keys.get(index));
+    }
+    return path.build();
+  }
+
+  private int indexOf(Key<?> key) {
+    Integer index = keyIndices.get(key);
+    checkArgument(index != null, "%s isn't in the index", key);
+    return index;
+  }
+
+  private ImmutableSet<Key<?>> toKeys(int[] offsets, int[] edges, int index) {
+    ImmutableSet.Builder<Key<?>> result = ImmutableSet.builder();
+    for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+      result.add(keys.get(edges[i]));
+    }
+    return result.build();
+  }
+
+  /**
+   * Returns the keys reached by following edges from {@code keys}. Keys are reached breadth-first,
+   * and the edges of the keys at the same distance are followed in parallel if there are many.
+   */
+  private ImmutableSet<Key<?>> reach(Set<Key<?>> keys, int[] offsets, int[] edges) {
+    int[] frontier = keys.stream().mapToInt(this::indexOf).toArray();
+    AtomicLongArray reached = new AtomicLongArray((this.keys.size() + 63) >>> 6);
+    while (frontier.length > 0) {
+      if (frontier.length >= PARALLEL_THRESHOLD) {
+        frontier =
+            Arrays.stream(frontier)
+                .parallel()
+                .flatMap(index -> Arrays.stream(edges, offsets[index], offsets[index + 1]))
+                .filter(index -> markReached(reached, index))
+                .toArray();
+      } else {
+        frontier = followEdges(frontier, offsets, edges, reached);
+      }
+    }
+
+    ImmutableSet.Builder<Key<?>> result = ImmutableSet.builder();
+    for (int word = 0; word < reached.length(); word++) {
+      long bits = reached.get(word);
+      while (bits != 0) {
+        result.add(this.keys.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+        bits &= bits - 1;
+      }
+    }
+    return result.build();
+  }
+
+  /** Returns the keys that are reached for the first time by following edges from {@code keys}. */
+  private static int[] followEdges(
+      int[] keys, int[] offsets, int[] edges, AtomicLongArray reached) {
+    int[] next = new int[keys.length];
+    int size = 0;
+    for (int index : keys) {
+      for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+        if (markReached(reached, edges[i])) {
+          if (size == next.length) {
+            next = Arrays.copyOf(next, size * 2);
+          }
+          next[size++] = edges[i];
+        }
+      }
+    }
+    return size == next.length ? next : Arrays.copyOf(next, size);
+  }
+
+  /** Marks {@code index} as reached, and returns true if it wasn't reached before. */
+  private static boolean markReached(AtomicLongArray reached, int index) {
+    int word = index >>> 6;
+    long bit = 1L << index;
+    long bits;
+    do {
+      bits = reached.get(word);
+      if ((bits & bit) != 0) {
+        return false;
+      }
+    } while (!reached.compareAndSet(word, bits, bits | bit));
+    return true;
+  }
+
+  /**
+   * Sorts edges by {@code edgeSources}, and stores their targets in {@code groupedTargets}, at the
+   * offsets in {@code offsets}.
+   */
+  private static void groupEdges(
+      int[] edgeSources, int[] edgeTargets, int edgeCount, int[] offsets, int[] groupedTargets) {
+    for (int i = 0; i < edgeCount; i++) {
+      offsets[edgeSources[i] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+    for (int i = 0; i < edgeCount; i++) {
+      groupedTargets[next[edgeSources[i]]++] = edgeTargets[i];
+    }
+  }
+
+  /**
+   * Finds the strongly connected components with Tarjan's algorithm, and the longest path from each
+   * key while components are completed.
+   */
+  private Components findComponents() {
+    int size = keys.size();
+    int[] order = new int[size]; // 0 while unvisited, otherwise 1 + the visiting order
+    int[] lowLink = new int[size];
+    int[] componentOf = new int[size];
+    int[] pathLengths = new int[size];
+    int[] nextOnPath = new int[size];
+    int[] nextEdge = new int[size];
+    boolean[] onStack = new boolean[size];
+    int[] stack = new int[size];
+    int stackSize = 0;
+    int[] callStack = new int[size];
+    int componentCount = 0;
+    int visited = 0;
+    ImmutableList.Builder<ImmutableSet<Key<?>>> cycles = ImmutableList.builder();
+
+    for (int root = 0; root < size; root++) {
+      if (order[root] != 0) {
+        continue;
+      }
+      // Tarjan's algorithm with an explicit call stack, so that long paths can't overflow.
+      int depth = 0;
+      callStack[depth] = root;
+      order[root] = lowLink[root] = ++visited;
+      nextEdge[root] = dependencyOffsets[root];
+      stack[stackSize++] = root;
+      onStack[root] = true;
+      while (depth >= 0) {
+        int index = callStack[depth];
+        if (nextEdge[index] < dependencyOffsets[index + 1]) {
+          int dependency = dependencies[nextEdge[index]++];
+          if (order[dependency] == 0) {
+            order[dependency] = lowLink[dependency] = ++visited;
+            nextEdge[dependency] = dependencyOffsets[dependency];
+            stack[stackSize++] = dependency;
+            onStack[dependency] = true;
+            callStack[++depth] = dependency;
+          } else if (onStack[dependency]) {
+            lowLink[index] = Math.min(lowLink[index], order[dependency]);
+          }
+          continue;
+        }
+
+        depth--;
+        if (depth >= 0) {
+          int caller = callStack[depth];
+          lowLink[caller] = Math.min(lowLink[caller], lowLink[index]);
+        }
+        if (lowLink[index] != order[index]) {
+          continue;
+        }
+
+        // index is the root of a component. Every component it depends on is already complete.
+        int component = componentCount++;
+        int first = stackSize;
+        do {
+          first--;
+          onStack[stack[first]] = false;
+          componentOf[stack[first]] = component;
+        } while (stack[first] != index);
+        boolean cycle = stackSize - first > 1;
+        for (int i = first; i < stackSize; i++) {
+          int member = stack[i];
+          pathLengths[member] = 1;
+          nextOnPath[member] = -1;
+          for (int e = dependencyOffsets[member]; e < dependencyOffsets[member + 1]; e++) {
+            int dependency = dependencies[e];
+            if (componentOf[dependency] != component) {
+              if (pathLengths[dependency] + 1 > pathLengths[member]) {
+                pathLengths[member] = pathLengths[dependency] + 1;
+                nextOnPath[member] = dependency;
+              }
+            } else if (dependency == member) {
+              cycle = true;
+            }
+          }
+        }
+        if (cycle) {
+          ImmutableSet.Builder<Key<?>> members = ImmutableSet.builder();
+          for (int i = first; i < stackSize; i++) {
+            members.add(keys.get(stack[i]));
+          }
+          cycles.add(members.build());
+        }
+        stackSize = first;
+      }
+    }
+    return new Components(cycles.build(), pathLengths, nextOnPath);
+  }
+
+  private static final class Components {
+    final ImmutableList<ImmutableSet<Key<?>>> cycles;
+
+    /** The number of keys on the longest path from each key. */
+    final int[] pathLengths;
+
+    /** The key that follows each key on its longest path, or -1 if it's the last key. */
+    final int[] nextOnPath;
+
+    Components(
+        ImmutableList<ImmutableSet<Key<?>>> cycles, int[] pathLengths, int[] nextOnPath) {
+      this.cycles = cycles;
+      this.pathLengths = pathLengths;
+      this.nextOnPath = nextOnPath;
+    }
+  }
+}
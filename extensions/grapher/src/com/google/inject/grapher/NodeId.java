@@ -63,6 +63,11 @@ public final class NodeId {
     return key;
   }
 
+  /** @since 7.1 */
+  public NodeType getNodeType() {
+    return nodeType;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hashCode(key, nodeType);
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher.stream;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Iterables;
+import com.google.inject.grapher.AbstractInjectorGrapher.GrapherParameters;
+import com.google.inject.grapher.AbstractStreamingInjectorGrapher;
+import com.google.inject.grapher.BindingEdge;
+import com.google.inject.grapher.DependencyEdge;
+import com.google.inject.grapher.Edge;
+import com.google.inject.grapher.ImplementationNode;
+import com.google.inject.grapher.InstanceNode;
+import com.google.inject.grapher.InterfaceNode;
+import com.google.inject.grapher.NameFactory;
+import com.google.inject.grapher.Node;
+import com.google.inject.grapher.ShortNameFactory;
+import java.io.PrintWriter;
+import java.lang.reflect.Member;
+
+/**
+ * {@link com.google.inject.grapher.InjectorGrapher} implementation that writes out a <a
+ * href="http://graphml.graphdrawing.org/">GraphML</a> file of the graph. The {@code kind} of each
+ * node and edge, and the names of types, annotations, instances and members are written as GraphML
+ * data.
+ *
+ * <p>Each node and edge is written as soon as its binding is reached. Specify the {@link
+ * PrintWriter} to output to with {@link #setOut(PrintWriter)}.
+ *
+ * @since 7.1
+ */
+public class GraphmlGrapher extends AbstractStreamingInjectorGrapher {
+  private final NameFactory nameFactory;
+
+  private PrintWriter out;
+
+  public GraphmlGrapher() {
+    this(new ShortNameFactory(), new GrapherParameters());
+  }
+
+  public GraphmlGrapher(NameFactory nameFactory, GrapherParameters options) {
+    super(options);
+    this.nameFactory = nameFactory;
+  }
+
+  public void setOut(PrintWriter out) {
+    this.out = out;
+  }
+
+  @Override
+  protected void start() {
+    out.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+    out.println("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">");
+    declareKey("kind", "all");
+    declareKey("type", "node");
+    declareKey("annotation", "node");
+    declareKey("instance", "node");
+    declareKey("source", "node");
+    declareKey("members", "node");
+    declareKey("member", "edge");
+    declareKey("bindingType", "edge");
+    out.println("<graph id=\"injector\" edgedefault=\"directed\">");
+  }
+
+  @Override
+  protected void newInterfaceNode(InterfaceNode node) {
+    startNode(node, "interface");
+    String annotationName = nameFactory.getAnnotationName(node.getId().getKey());
+    if (!annotationName.isEmpty()) {
+      writeData("annotation", annotationName);
+    }
+    out.println("</node>");
+  }
+
+  @Override
+  protected void newImplementationNode(ImplementationNode node) {
+    startNode(node, "implementation");
+    writeMembers(node.getMembers());
+    out.println("</node>");
+  }
+
+  @Override
+  protected void newInstanceNode(InstanceNode node) {
+    startNode(node, "instance");
+    writeData("instance", nameFactory.getInstanceName(node.getInstance()));
+    writeData("source", nameFactory.getSourceName(node.getSource()));
+    writeMembers(node.getMembers());
+    out.println("</node>");
+  }
+
+  @Override
+  protected void newDependencyEdge(DependencyEdge edge) {
+    startEdge(edge, "dependency");
+    if (edge.getInjectionPoint() != null) {
+      writeData("member", nameFactory.getMemberName(edge.getInjectionPoint().getMember()));
+    }
+    out.println("</edge>");
+  }
+
+  @Override
+  protected void newBindingEdge(BindingEdge edge) {
+    startEdge(edge, "binding");
+    writeData("bindingType", edge.getType().name());
+    out.println("</edge>");
+  }
+
+  @Override
+  protected void finish() {
+    out.println("</graph>");
+    out.println("</graphml>");
+    out.flush();
+  }
+
+  private void declareKey(String name, String domain) {
+    out.println(
+        "<key id=\""
+            + name
+            + "\" for=\""
+            + domain
+            + "\" attr.name=\""
+            + name
+            + "\" attr.type=\"string\"/>");
+  }
+
+  private void startNode(Node node, String kind) {
+    out.println("<node id=\"" + getNodeIdentifier(node.getId()) + "\">");
+    writeData("kind", kind);
+    writeData("type", nameFactory.getClassName(node.getId().getKey()));
+  }
+
+  private void startEdge(Edge edge, String kind) {
+    out.println(
+        "<edge source=\""
+            + getNodeIdentifier(edge.getFromId())
+            + "\" target=\""
+            + getNodeIdentifier(edge.getToId())
+            + "\">");
+    writeData("kind", kind);
+  }
+
+  private void writeMembers(Iterable<Member> members) {
+    if (!Iterables.isEmpty(members)) {
+      writeData(
+          "members",
+          Joiner.on(", ").join(Iterables.transform(members, nameFactory::getMemberName)));
+    }
+  }
+
+  private void writeData(String key, String value) {
+    out.println("<data key=\"" + key + "\">" + escape(value) + "</data>");
+  }
+
+  /** Escapes {@code value} for XML character data. */
+  private static String escape(String value) {
+    StringBuilder escaped = null;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      String replacement;
+      switch (c) {
+        case '<':
+          replacement = "&lt;";
+          break;
+        case '>':
+          replacement = "&gt;";
+          break;
+        case '&':
+          replacement = "&amp;";
+          break;
+        default:
+          // XML 1.0 can't represent most control characters, even as references.
+          replacement = c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "?" : null;
+      }
+      if (replacement != null) {
+        if (escaped == null) {
+          escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+        }
+        escaped.append(replacement);
+      } else if (escaped != null) {
+        escaped.append(c);
+      }
+    }
+    return escaped == null ? value : escaped.toString();
+  }
+}
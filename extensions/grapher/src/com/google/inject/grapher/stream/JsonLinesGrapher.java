@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher.stream;
+
+import com.google.inject.Key;
+import com.google.inject.grapher.AbstractInjectorGrapher.GrapherParameters;
+import com.google.inject.grapher.AbstractStreamingInjectorGrapher;
+import com.google.inject.grapher.BindingEdge;
+import com.google.inject.grapher.DependencyEdge;
+import com.google.inject.grapher.Edge;
+import com.google.inject.grapher.ImplementationNode;
+import com.google.inject.grapher.InstanceNode;
+import com.google.inject.grapher.InterfaceNode;
+import com.google.inject.grapher.NameFactory;
+import com.google.inject.grapher.Node;
+import com.google.inject.grapher.ShortNameFactory;
+import java.io.PrintWriter;
+import java.lang.reflect.Member;
+
+/**
+ * {@link com.google.inject.grapher.InjectorGrapher} implementation that writes the graph as JSON
+ * lines, with one JSON object per node or edge. For example:
+ *
+ * <pre>
+ * {"id":"t0","kind":"interface","type":"Service","annotation":"@Named(value=main)"}
+ * {"from":"t0","to":"t1","kind":"binding","bindingType":"NORMAL"}
+ * {"id":"t1","kind":"implementation","type":"ServiceImpl","members":["&lt;init&gt;"]}
+ * {"from":"t1","to":"t2","kind":"dependency","member":"&lt;init&gt;"}
+ * </pre>
+ *
+ * <p>Each line is written as soon as its binding is reached. Specify the {@link PrintWriter} to
+ * output to with {@link #setOut(PrintWriter)}.
+ *
+ * @since 7.1
+ */
+public class JsonLinesGrapher extends AbstractStreamingInjectorGrapher {
+  private final NameFactory nameFactory;
+  private final StringBuilder line = new StringBuilder();
+
+  private PrintWriter out;
+
+  public JsonLinesGrapher() {
+    this(new ShortNameFactory(), new GrapherParameters());
+  }
+
+  public JsonLinesGrapher(NameFactory nameFactory, GrapherParameters options) {
+    super(options);
+    this.nameFactory = nameFactory;
+  }
+
+  public void setOut(PrintWriter out) {
+    this.out = out;
+  }
+
+  @Override
+  protected void start() {}
+
+  @Override
+  protected void newInterfaceNode(InterfaceNode node) {
+    Key<?> key = node.getId().getKey();
+    startNode(node, "interface");
+    String annotationName = nameFactory.getAnnotationName(key);
+    if (!annotationName.isEmpty()) {
+      addField("annotation", annotationName);
+    }
+    writeLine();
+  }
+
+  @Override
+  protected void newImplementationNode(ImplementationNode node) {
+    startNode(node, "implementation");
+    addMembers(node.getMembers());
+    writeLine();
+  }
+
+  @Override
+  protected void newInstanceNode(InstanceNode node) {
+    startNode(node, "instance");
+    addField("instance", nameFactory.getInstanceName(node.getInstance()));
+    addField("source", nameFactory.getSourceName(node.getSource()));
+    addMembers(node.getMembers());
+    writeLine();
+  }
+
+  @Override
+  protected void newDependencyEdge(DependencyEdge edge) {
+    startEdge(edge, "dependency");
+    if (edge.getInjectionPoint() != null) {
+      addField("member", nameFactory.getMemberName(edge.getInjectionPoint().getMember()));
+    }
+    writeLine();
+  }
+
+  @Override
+  protected void newBindingEdge(BindingEdge edge) {
+    startEdge(edge, "binding");
+    addField("bindingType", edge.getType().name());
+    writeLine();
+  }
+
+  @Override
+  protected void finish() {
+    out.flush();
+  }
+
+  private void startNode(Node node, String kind) {
+    line.append('{');
+    addField("id", getNodeIdentifier(node.getId()));
+    addField("kind", kind);
+    addField("type", nameFactory.getClassName(node.getId().getKey()));
+  }
+
+  private void startEdge(Edge edge, String kind) {
+    line.append('{');
+    addField("from", getNodeIdentifier(edge.getFromId()));
+    addField("to", getNodeIdentifier(edge.getToId()));
+    addField("kind", kind);
+  }
+
+  private void addMembers(Iterable<Member> members) {
+    startField("members");
+    line.append('[');
+    boolean first = true;
+    for (Member member : members) {
+      if (!first) {
+        line.append(',');
+      }
+      first = false;
+      appendString(nameFactory.getMemberName(member));
+    }
+    line.append(']');
+  }
+
+  private void addField(String name, String value) {
+    startField(name);
+    appendString(value);
+  }
+
+  private void startField(String name) {
+    if (line.length() > 1) {
+      line.append(',');
+    }
+    appendString(name);
+    line.append(':');
+  }
+
+  private void writeLine() {
+    line.append('}');
+    out.println(line);
+    line.setLength(0);
+  }
+
+  /** Appends {@code value} as a JSON string. */
+  private void appendString(String value) {
+    line.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          line.append("\\\"");
+          break;
+        case '\\':
+          line.append("\\\\");
+          break;
+        case '\n':
+          line.append("\\n");
+          break;
+        case '\r':
+          line.append("\\r");
+          break;
+        case '\t':
+          line.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            line.append(String.format("\\u%04x", (int) c));
+          } else {
+            line.append(c);
+          }
+      }
+    }
+    line.append('"');
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.grapher.stream.GraphmlGrapher;
+import com.google.inject.grapher.stream.JsonLinesGrapher;
+import com.google.inject.spi.InjectionPoint;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Member;
+import java.util.List;
+import java.util.Set;
+import junit.framework.TestCase;
+
+/** Test cases for {@link AbstractStreamingInjectorGrapher} and its implementations. */
+public class AbstractStreamingInjectorGrapherTest extends TestCase {
+
+  private static class FakeGrapher extends AbstractStreamingInjectorGrapher {
+    final Set<Node> nodes = Sets.newHashSet();
+    final Set<Edge> edges = Sets.newHashSet();
+    final List<String> identifiers = Lists.newArrayList();
+
+    @Override
+    protected void start() {
+      nodes.clear();
+      edges.clear();
+      identifiers.clear();
+    }
+
+    @Override
+    protected void newInterfaceNode(InterfaceNode node) {
+      addNode(node);
+    }
+
+    @Override
+    protected void newImplementationNode(ImplementationNode node) {
+      addNode(node);
+    }
+
+    @Override
+    protected void newInstanceNode(InstanceNode node) {
+      addNode(node);
+    }
+
+    @Override
+    protected void newDependencyEdge(DependencyEdge edge) {
+      addEdge(edge);
+    }
+
+    @Override
+    protected void newBindingEdge(BindingEdge edge) {
+      addEdge(edge);
+    }
+
+    @Override
+    protected void finish() {}
+
+    private void addNode(Node node) {
+      assertTrue(nodes.add(node));
+      identifiers.add(getNodeIdentifier(node.getId()));
+    }
+
+    private void addEdge(Edge edge) {
+      assertTrue(edges.add(edge));
+      // Every edge can be identified as it's rendered, even if its nodes haven't been yet.
+      getNodeIdentifier(edge.getFromId());
+      getNodeIdentifier(edge.getToId());
+    }
+  }
+
+  private static class A {
+    @Inject
+    A(B b) {}
+  }
+
+  private static class B {
+    @Inject
+    B(Provider<C> c) {}
+  }
+
+  private static class C {
+    @Inject
+    C(String str) {}
+  }
+
+  private FakeGrapher grapher;
+  private Injector injector;
+  private Node aNode;
+  private Node bNode;
+  private Node cNode;
+  private Node stringNode;
+  private Node stringInstanceNode;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    grapher = new FakeGrapher();
+    Node.ignoreSourceInComparisons = true;
+    injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(String.class).toInstance("test");
+              }
+            });
+    aNode = newImplementationNode(A.class, B.class);
+    bNode = newImplementationNode(B.class, Provider.class);
+    cNode = newImplementationNode(C.class, String.class);
+    stringNode = new InterfaceNode(NodeId.newTypeId(Key.get(String.class)), null);
+    stringInstanceNode =
+        new InstanceNode(
+            NodeId.newInstanceId(Key.get(String.class)), null, "test", ImmutableList.<Member>of());
+  }
+
+  private static Node newImplementationNode(Class<?> type, Class<?> parameterType)
+      throws NoSuchMethodException {
+    return new ImplementationNode(
+        NodeId.newTypeId(Key.get(type)),
+        null,
+        ImmutableList.<Member>of(type.getDeclaredConstructor(parameterType)));
+  }
+
+  private static Edge newDependencyEdge(Node from, Node to) {
+    Class<?> type = from.getId().getKey().getTypeLiteral().getRawType();
+    return new DependencyEdge(from.getId(), to.getId(), InjectionPoint.forConstructorOf(type));
+  }
+
+  public void testGraphsTransitiveDependencies() throws Exception {
+    grapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(A.class)));
+
+    // The Provider<C> node is aliased to the C node.
+    assertEquals(
+        ImmutableSet.of(aNode, bNode, cNode, stringNode, stringInstanceNode), grapher.nodes);
+    assertEquals(
+        ImmutableSet.of(
+            newDependencyEdge(aNode, bNode),
+            newDependencyEdge(bNode, cNode),
+            newDependencyEdge(cNode, stringNode),
+            new BindingEdge(
+                stringNode.getId(), stringInstanceNode.getId(), BindingEdge.Type.NORMAL)),
+        grapher.edges);
+    assertEquals(grapher.nodes.size(), ImmutableSet.copyOf(grapher.identifiers).size());
+  }
+
+  public void testMaxDepth() throws Exception {
+    grapher.setMaxDepth(0);
+    grapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(A.class)));
+    assertEquals(ImmutableSet.of(aNode), grapher.nodes);
+    assertEquals(ImmutableSet.of(), grapher.edges);
+
+    grapher.setMaxDepth(1);
+    grapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(A.class)));
+    assertEquals(ImmutableSet.of(aNode, bNode), grapher.nodes);
+    assertEquals(ImmutableSet.of(newDependencyEdge(aNode, bNode)), grapher.edges);
+
+    // The alias from Provider<C> to C isn't counted as a dependency.
+    grapher.setMaxDepth(2);
+    grapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(A.class)));
+    assertEquals(ImmutableSet.of(aNode, bNode, cNode), grapher.nodes);
+    assertEquals(
+        ImmutableSet.of(newDependencyEdge(aNode, bNode), newDependencyEdge(bNode, cNode)),
+        grapher.edges);
+  }
+
+  public void testNegativeMaxDepth() {
+    try {
+      grapher.setMaxDepth(-1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testJsonLines() throws Exception {
+    StringWriter out = new StringWriter();
+    JsonLinesGrapher jsonGrapher = new JsonLinesGrapher();
+    jsonGrapher.setOut(new PrintWriter(out));
+    jsonGrapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(C.class)));
+
+    assertEquals(
+        ImmutableList.of(
+            "{\"id\":\"t0\",\"kind\":\"implementation\",\"type\":\"AbstractStreamingInjector"
+                + "GrapherTest$C\",\"members\":[\"<init>\"]}",
+            "{\"from\":\"t0\",\"to\":\"t1\",\"kind\":\"dependency\",\"member\":\"<init>\"}",
+            "{\"id\":\"t1\",\"kind\":\"interface\",\"type\":\"String\"}",
+            "{\"id\":\"i1\",\"kind\":\"instance\",\"type\":\"String\","
+                + "\"instance\":\"\\\"test\\\"\","
+                + "\"source\":\"AbstractStreamingInjectorGrapherTest.java:128\",\"members\":[]}",
+            "{\"from\":\"t1\",\"to\":\"i1\",\"kind\":\"binding\",\"bindingType\":\"NORMAL\"}"),
+        ImmutableList.copyOf(out.toString().split(System.lineSeparator())));
+  }
+
+  public void testGraphml() throws Exception {
+    StringWriter out = new StringWriter();
+    GraphmlGrapher graphmlGrapher = new GraphmlGrapher();
+    graphmlGrapher.setOut(new PrintWriter(out));
+    graphmlGrapher.graph(injector, ImmutableSet.<Key<?>>of(Key.get(C.class)));
+
+    String graphml = out.toString();
+    assertTrue(graphml, graphml.startsWith("<?xml"));
+    assertTrue(graphml, graphml.contains("<graph id=\"injector\" edgedefault=\"directed\">"));
+    assertTrue(graphml, graphml.contains("<node id=\"t0\">"));
+    assertTrue(graphml, graphml.contains("<data key=\"members\">&lt;init&gt;</data>"));
+    assertTrue(graphml, graphml.contains("<edge source=\"t0\" target=\"t1\">"));
+    assertTrue(graphml, graphml.contains("<edge source=\"t1\" target=\"i1\">"));
+    assertTrue(graphml, graphml.endsWith("</graphml>" + System.lineSeparator()));
+  }
+}
@@ -25,6 +25,8 @@ public class AllTests {
   public static Test suite() {
     TestSuite suite = new TestSuite();
     suite.addTestSuite(AbstractInjectorGrapherTest.class);
+    suite.addTestSuite(AbstractStreamingInjectorGrapherTest.class);
+    suite.addTestSuite(DependencyIndexTest.class);
     suite.addTestSuite(ShortNameFactoryTest.class);
     suite.addTestSuite(TransitiveDependencyVisitorTest.class);
     return suite;
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.grapher;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.ProviderWithDependencies;
+import java.util.Set;
+import junit.framework.TestCase;
+
+/** Test cases for {@link DependencyIndex}. */
+public class DependencyIndexTest extends TestCase {
+  private static final Key<A> A_KEY = Key.get(A.class);
+  private static final Key<B> B_KEY = Key.get(B.class);
+  private static final Key<Provider<C>> PROVIDER_C_KEY = new Key<Provider<C>>() {};
+  private static final Key<C> C_KEY = Key.get(C.class);
+  private static final Key<String> STRING_KEY = Key.get(String.class);
+
+  private static class A {
+    @Inject
+    A(B b) {}
+  }
+
+  private static class B {
+    @Inject
+    B(Provider<C> c) {}
+  }
+
+  private static class C {
+    @Inject
+    C(String str) {}
+  }
+
+  private static class D {
+    @Inject
+    D(E e) {}
+  }
+
+  private static class E {
+    @Inject
+    E(Provider<D> d) {}
+  }
+
+  private DependencyIndex index;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    index =
+        DependencyIndex.create(
+            Guice.createInjector(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    bind(A.class);
+                    bind(D.class);
+                    bind(String.class).toInstance("test");
+                  }
+                }));
+  }
+
+  public void testDirectDependencies() {
+    assertEquals(ImmutableSet.of(B_KEY), index.getDependencies(A_KEY));
+    assertEquals(ImmutableSet.of(C_KEY), index.getDependencies(PROVIDER_C_KEY));
+    assertEquals(ImmutableSet.of(), index.getDependencies(STRING_KEY));
+    assertEquals(ImmutableSet.of(B_KEY), index.getDependents(PROVIDER_C_KEY));
+    assertEquals(ImmutableSet.of(), index.getDependents(A_KEY));
+  }
+
+  public void testTransitiveDependencies() {
+    assertEquals(
+        ImmutableSet.of(B_KEY, PROVIDER_C_KEY, C_KEY, STRING_KEY),
+        index.getTransitiveDependencies(ImmutableSet.of(A_KEY)));
+    assertEquals(
+        ImmutableSet.of(A_KEY, B_KEY, PROVIDER_C_KEY, C_KEY),
+        index.getTransitiveDependents(ImmutableSet.of(STRING_KEY)));
+    assertEquals(
+        ImmutableSet.of(A_KEY, B_KEY),
+        index.getTransitiveDependents(ImmutableSet.of(B_KEY, PROVIDER_C_KEY)));
+  }
+
+  public void testCycles() {
+    Key<D> dKey = Key.get(D.class);
+    Set<Key<?>> cycle = ImmutableSet.of(dKey, Key.get(E.class), new Key<Provider<D>>() {});
+    assertEquals(ImmutableList.of(cycle), index.getCycles());
+    assertEquals(cycle, index.getTransitiveDependencies(ImmutableSet.of(dKey)));
+  }
+
+  public void testLongestDependencyPath() {
+    assertEquals(
+        ImmutableList.of(A_KEY, B_KEY, PROVIDER_C_KEY, C_KEY, STRING_KEY),
+        index.getLongestDependencyPath(ImmutableSet.of(C_KEY, A_KEY)));
+    assertEquals(ImmutableList.of(), index.getLongestDependencyPath(ImmutableSet.of()));
+  }
+
+  public void testUnknownKey() {
+    try {
+      index.getDependencies(Key.get(Integer.class));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testParallelTraversal() {
+    ImmutableSet.Builder<Key<?>> keysBuilder = ImmutableSet.builder();
+    ImmutableSet.Builder<Dependency<?>> dependencies = ImmutableSet.builder();
+    for (int i = 0; i < 5000; i++) {
+      Key<String> key = Key.get(String.class, Names.named("s" + i));
+      keysBuilder.add(key);
+      dependencies.add(Dependency.get(key));
+    }
+    ImmutableSet<Key<?>> keys = keysBuilder.build();
+    ImmutableSet<Dependency<?>> providerDependencies = dependencies.build();
+    DependencyIndex wideIndex =
+        DependencyIndex.create(
+            Guice.createInjector(
+                new AbstractModule() {
+                  @Override
+                  protected void configure() {
+                    for (Dependency<?> dependency : providerDependencies) {
+                      @SuppressWarnings("unchecked")
+                      Key<String> key = (Key<String>) dependency.getKey();
+                      bind(key).toInstance(key.toString());
+                    }
+                    bind(Object.class)
+                        .toProvider(
+                            new ProviderWithDependencies<Object>() {
+                              @Override
+                              public Object get() {
+                                return "root";
+                              }
+
+                              @Override
+                              public Set<Dependency<?>> getDependencies() {
+                                return providerDependencies;
+                              }
+                            });
+                  }
+                }));
+
+    assertEquals(
+        keys, wideIndex.getTransitiveDependencies(ImmutableSet.<Key<?>>of(Key.get(Object.class))));
+    assertEquals(ImmutableSet.of(Key.get(Object.class)), wideIndex.getTransitiveDependents(keys));
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Statistics of the provisions of one binding, as collected by {@link ProvisionStatistics}. Times
+ * are in nanoseconds, and include the time to provision the dependencies of the binding.
+ * Percentiles are estimates, with an error of up to a third of the reported time.
+ *
+ * @since 7.1
+ */
+public final class BindingStatistics {
+  private final String key;
+  private final String source;
+  private final boolean singleton;
+  private final long provisionCount;
+  private final long totalNanos;
+  private final long meanNanos;
+  private final long medianNanos;
+  private final long ninetiethPercentileNanos;
+  private final long ninetyNinthPercentileNanos;
+  private final long maxNanos;
+  private final long failureCount;
+  private final String lastFailure;
+  private final long lastFailureMillis;
+
+  BindingStatistics(
+      String key,
+      String source,
+      boolean singleton,
+      long provisionCount,
+      long totalNanos,
+      long meanNanos,
+      long medianNanos,
+      long ninetiethPercentileNanos,
+      long ninetyNinthPercentileNanos,
+      long maxNanos,
+      long failureCount,
+      String lastFailure,
+      long lastFailureMillis) {
+    this.key = key;
+    this.source = source;
+    this.singleton = singleton;
+    this.provisionCount = provisionCount;
+    this.totalNanos = totalNanos;
+    this.meanNanos = meanNanos;
+    this.medianNanos = medianNanos;
+    this.ninetiethPercentileNanos = ninetiethPercentileNanos;
+    this.ninetyNinthPercentileNanos = ninetyNinthPercentileNanos;
+    this.maxNanos = maxNanos;
+    this.failureCount = failureCount;
+    this.lastFailure = lastFailure;
+    this.lastFailureMillis = lastFailureMillis;
+  }
+
+  /** Converts statistics returned by a {@link ProvisionStatisticsMXBean} proxy. */
+  public static BindingStatistics from(CompositeData data) {
+    return new BindingStatistics(
+        (String) data.get("key"),
+        (String) data.get("source"),
+        (Boolean) data.get("singleton"),
+        (Long) data.get("provisionCount"),
+        (Long) data.get("totalNanos"),
+        (Long) data.get("meanNanos"),
+        (Long) data.get("medianNanos"),
+        (Long) data.get("ninetiethPercentileNanos"),
+        (Long) data.get("ninetyNinthPercentileNanos"),
+        (Long) data.get("maxNanos"),
+        (Long) data.get("failureCount"),
+        (String) data.get("lastFailure"),
+        (Long) data.get("lastFailureMillis"));
+  }
+
+  /** Gets the binding key. */
+  public String getKey() {
+    return key;
+  }
+
+  /** Gets the source of the binding. */
+  public String getSource() {
+    return source;
+  }
+
+  /** Returns true if the binding is a singleton, which is only provisioned once. */
+  public boolean isSingleton() {
+    return singleton;
+  }
+
+  /** Gets the number of successful provisions. */
+  public long getProvisionCount() {
+    return provisionCount;
+  }
+
+  /** Gets the total time of all successful provisions. */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /** Gets the mean time of a successful provision. */
+  public long getMeanNanos() {
+    return meanNanos;
+  }
+
+  /** Gets the median time of a successful provision. */
+  public long getMedianNanos() {
+    return medianNanos;
+  }
+
+  /** Gets the 90th percentile time of a successful provision. */
+  public long getNinetiethPercentileNanos() {
+    return ninetiethPercentileNanos;
+  }
+
+  /** Gets the 99th percentile time of a successful provision. */
+  public long getNinetyNinthPercentileNanos() {
+    return ninetyNinthPercentileNanos;
+  }
+
+  /** Gets the longest time of a successful provision. */
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * Gets the time it took to create the singleton instance, or -1 if the binding isn't a singleton
+   * or its instance hasn't been created.
+   */
+  public long getSingletonCreationNanos() {
+    return singleton && provisionCount > 0 ? totalNanos : -1;
+  }
+
+  /** Gets the number of failed provisions. */
+  public long getFailureCount() {
+    return failureCount;
+  }
+
+  /** Gets the exception of the last failed provision, or null if no provision failed. */
+  public String getLastFailure() {
+    return lastFailure;
+  }
+
+  /**
+   * Gets the time of the last failed provision, in milliseconds since the epoch, or 0 if no
+   * provision failed.
+   */
+  public long getLastFailureMillis() {
+    return lastFailureMillis;
+  }
+
+  @Override
+  public String toString() {
+    return key
+        + ": "
+        + provisionCount
+        + " provisions, mean "
+        + meanNanos
+        + "ns, p99 "
+        + ninetyNinthPercentileNanos
+        + "ns, max "
+        + maxNanos
+        + "ns, "
+        + failureCount
+        + " failures";
+  }
+}
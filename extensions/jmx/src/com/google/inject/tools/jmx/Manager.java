@@ -75,6 +75,43 @@ public class Manager {
     }
   }
 
+  /**
+   * Registers the {@link ProvisionStatistics} of an Injector created with {@link
+   * ProvisionStatisticsModule} with the platform MBean server. Consider using the name of your root
+   * {@link Module} class as the domain.
+   *
+   * @since 7.1
+   */
+  public static void manageStatistics(String domain, Injector injector) {
+    manageStatistics(ManagementFactory.getPlatformMBeanServer(), domain, injector);
+  }
+
+  /**
+   * Registers the {@link ProvisionStatistics} of an Injector created with {@link
+   * ProvisionStatisticsModule} with the given MBean server. Unlike {@link #manage}, this registers
+   * a single MBean, which gives the statistics of the bindings that take the most time and of any
+   * binding by key. Consider using the name of your root {@link Module} class as the domain.
+   *
+   * @since 7.1
+   */
+  public static void manageStatistics(MBeanServer server, String domain, Injector injector) {
+    Binding<ProvisionStatistics> binding =
+        injector.getExistingBinding(Key.get(ProvisionStatistics.class));
+    if (binding == null) {
+      throw new IllegalArgumentException(
+          "The injector must be created with " + ProvisionStatisticsModule.class.getName());
+    }
+
+    String name = domain + ":type=" + ProvisionStatistics.class.getSimpleName();
+    try {
+      server.registerMBean(binding.getProvider().get(), new ObjectName(name));
+    } catch (MalformedObjectNameException e) {
+      throw new RuntimeException("Bad object name: " + name, e);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   static String quote(String value) {
     // JMX seems to have a comma bug.
     return ObjectName.quote(value).replace(',', ';');
@@ -92,9 +129,10 @@ public class Manager {
     }
 
     Module module = (Module) Class.forName(args[0]).newInstance();
-    Injector injector = Guice.createInjector(module);
+    Injector injector = Guice.createInjector(new ProvisionStatisticsModule(), module);
 
     manage(args[0], injector);
+    manageStatistics(args[0], injector);
 
     System.out.println("Press Ctrl+C to exit...");
 
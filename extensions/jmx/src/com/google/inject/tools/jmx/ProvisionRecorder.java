@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import com.google.inject.Binding;
+import com.google.inject.Scopes;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Records the provisions of one binding for {@link ProvisionStatistics}. */
+final class ProvisionRecorder {
+  /**
+   * Provision times are counted in buckets of half an octave: bucket {@code 2 * n} holds times from
+   * 2<sup>n</sup> nanoseconds up to 1.5 * 2<sup>n</sup>, and bucket {@code 2 * n + 1} holds times
+   * up to 2<sup>n + 1</sup>. The last bucket also holds all longer times.
+   */
+  private static final int BUCKET_COUNT = 64;
+
+  private final String key;
+  private final String source;
+  private final boolean singleton;
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder failureCount = new LongAdder();
+  private volatile String lastFailure;
+  private volatile long lastFailureMillis;
+
+  ProvisionRecorder(Binding<?> binding) {
+    this.key = binding.getKey().toString();
+    this.source = String.valueOf(binding.getSource());
+    this.singleton = Scopes.isSingleton(binding);
+  }
+
+  String getKey() {
+    return key;
+  }
+
+  /** Returns true if both record bindings of the same key, with the same source and scope. */
+  boolean recordsSameBindingAs(ProvisionRecorder other) {
+    return key.equals(other.key) && source.equals(other.source) && singleton == other.singleton;
+  }
+
+  long getProvisionCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += buckets.get(i);
+    }
+    return count;
+  }
+
+  long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  void recordProvision(long nanos) {
+    totalNanos.add(nanos);
+    buckets.incrementAndGet(bucketOf(nanos));
+    long max;
+    while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {}
+  }
+
+  void recordFailure(RuntimeException e) {
+    // The root cause is more useful than the message of a ProvisionException, which can be long.
+    Throwable cause = e;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    failureCount.increment();
+    lastFailure = cause.toString();
+    lastFailureMillis = System.currentTimeMillis();
+  }
+
+  BindingStatistics snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    long total = totalNanos.sum();
+    long max = maxNanos.get();
+    return new BindingStatistics(
+        key,
+        source,
+        singleton,
+        count,
+        total,
+        count == 0 ? 0 : total / count,
+        percentile(counts, count, max, 0.5),
+        percentile(counts, count, max, 0.9),
+        percentile(counts, count, max, 0.99),
+        max,
+        failureCount.sum(),
+        lastFailure,
+        lastFailureMillis);
+  }
+
+  static int bucketOf(long nanos) {
+    if (nanos < 2) {
+      return 0;
+    }
+    int octave = 63 - Long.numberOfLeadingZeros(nanos);
+    int bucket = 2 * octave + (int) ((nanos >>> (octave - 1)) & 1);
+    return Math.min(bucket, BUCKET_COUNT - 1);
+  }
+
+  /** Returns the largest time in {@code bucket}. */
+  static long bucketMax(int bucket) {
+    int octave = bucket / 2;
+    long upperBound = bucket % 2 == 0 ? (1L << octave) + (1L << octave >>> 1) : 1L << (octave + 1);
+    return Math.max(upperBound - 1, 1);
+  }
+
+  /**
+   * Returns an estimate of the {@code fraction} percentile: the largest time of the bucket that
+   * holds it, or the maximum time if that's smaller.
+   */
+  static long percentile(long[] counts, long count, long max, double fraction) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(fraction * count);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return i == counts.length - 1 ? max : Math.min(bucketMax(i), max);
+      }
+    }
+    return max;
+  }
+}
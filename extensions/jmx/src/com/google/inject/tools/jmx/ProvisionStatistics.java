@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.spi.ProvisionListener;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects statistics of the provisions of each binding. Create the injector with {@link
+ * ProvisionStatisticsModule} to collect statistics for all of its bindings, and register them with
+ * {@link Manager#manageStatistics}:
+ *
+ * <pre>
+ * Injector injector = Guice.createInjector(new ProvisionStatisticsModule(), new MyModule());
+ * Manager.manageStatistics("com.example.MyModule", injector);
+ * </pre>
+ *
+ * <p>Recording a provision takes a few atomic operations, and no locks. Since singletons are only
+ * provisioned once, their statistics are the time it took to create them.
+ *
+ * <p>Statistics are kept per binding, so child injectors that bind the same key in different
+ * scopes or modules get separate statistics. Bindings with the same key, source and scope share
+ * their statistics, so that creating a child injector per request doesn't add a binding each time.
+ *
+ * @since 7.1
+ */
+public final class ProvisionStatistics implements ProvisionListener, ProvisionStatisticsMXBean {
+  // Weak keys so that the statistics don't keep child injectors from being garbage collected.
+  private final LoadingCache<Binding<?>, ProvisionRecorder> recordersByBinding =
+      CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(this::newRecorder));
+
+  private final List<ProvisionRecorder> recorders = new CopyOnWriteArrayList<>();
+  private final ConcurrentHashMap<String, List<ProvisionRecorder>> recordersByKey =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public <T> void onProvision(ProvisionInvocation<T> provision) {
+    long start = System.nanoTime();
+    try {
+      provision.provision();
+    } catch (RuntimeException e) {
+      getRecorder(provision.getBinding()).recordFailure(e);
+      throw e;
+    }
+    getRecorder(provision.getBinding()).recordProvision(System.nanoTime() - start);
+  }
+
+  private ProvisionRecorder getRecorder(Binding<?> binding) {
+    return recordersByBinding.getUnchecked(binding);
+  }
+
+  private synchronized ProvisionRecorder newRecorder(Binding<?> binding) {
+    ProvisionRecorder recorder = new ProvisionRecorder(binding);
+    List<ProvisionRecorder> sameKey =
+        recordersByKey.computeIfAbsent(recorder.getKey(), k -> new CopyOnWriteArrayList<>());
+    for (ProvisionRecorder existing : sameKey) {
+      if (existing.recordsSameBindingAs(recorder)) {
+        return existing;
+      }
+    }
+    sameKey.add(recorder);
+    recorders.add(recorder);
+    return recorder;
+  }
+
+  @Override
+  public int getBindingCount() {
+    return recorders.size();
+  }
+
+  @Override
+  public long getProvisionCount() {
+    long count = 0;
+    for (ProvisionRecorder recorder : recorders) {
+      count += recorder.getProvisionCount();
+    }
+    return count;
+  }
+
+  @Override
+  public long getFailureCount() {
+    long count = 0;
+    for (ProvisionRecorder recorder : recorders) {
+      count += recorder.getFailureCount();
+    }
+    return count;
+  }
+
+  @Override
+  public List<BindingStatistics> getStatistics(String key) {
+    List<BindingStatistics> statistics = new ArrayList<>();
+    List<ProvisionRecorder> sameKey = recordersByKey.get(key);
+    if (sameKey != null) {
+      for (ProvisionRecorder recorder : sameKey) {
+        statistics.add(recorder.snapshot());
+      }
+    }
+    return statistics;
+  }
+
+  /**
+   * Gets the statistics of the provisioned bindings with the given key. There is more than one if
+   * child injectors bind the key separately.
+   */
+  public List<BindingStatistics> getStatistics(Key<?> key) {
+    return getStatistics(key.toString());
+  }
+
+  @Override
+  public List<BindingStatistics> getTopByTotalTime(int n) {
+    return getTop(n, statistics -> true, BindingStatistics::getTotalNanos);
+  }
+
+  @Override
+  public List<BindingStatistics> getTopByProvisionCount(int n) {
+    return getTop(n, statistics -> true, BindingStatistics::getProvisionCount);
+  }
+
+  @Override
+  public List<BindingStatistics> getTopBySingletonCreationTime(int n) {
+    return getTop(
+        n,
+        statistics -> statistics.getSingletonCreationNanos() >= 0,
+        BindingStatistics::getSingletonCreationNanos);
+  }
+
+  @Override
+  public List<BindingStatistics> getTopByFailureCount(int n) {
+    return getTop(
+        n, statistics -> statistics.getFailureCount() > 0, BindingStatistics::getFailureCount);
+  }
+
+  @Override
+  public synchronized void reset() {
+    recordersByBinding.invalidateAll();
+    recordersByKey.clear();
+    recorders.clear();
+  }
+
+  private List<BindingStatistics> getTop(
+      int n, Predicate<BindingStatistics> filter, ToLongFunction<BindingStatistics> value) {
+    List<BindingStatistics> all = new ArrayList<>();
+    for (ProvisionRecorder recorder : recorders) {
+      BindingStatistics statistics = recorder.snapshot();
+      if (filter.test(statistics)) {
+        all.add(statistics);
+      }
+    }
+    all.sort(Comparator.comparingLong(value).reversed());
+    return new ArrayList<>(all.subList(0, Math.max(0, Math.min(n, all.size()))));
+  }
+}
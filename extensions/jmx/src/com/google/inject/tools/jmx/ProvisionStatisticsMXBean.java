@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import java.util.List;
+
+/**
+ * JMX interface to the provisioning statistics of an injector. Rather than one MBean per binding,
+ * a single MBean gives the statistics of the bindings that take the most time or are provisioned
+ * the most, and of any binding by key.
+ *
+ * @since 7.1
+ */
+public interface ProvisionStatisticsMXBean {
+
+  /** Gets the number of bindings that have been provisioned. */
+  int getBindingCount();
+
+  /** Gets the number of successful provisions of all bindings. */
+  long getProvisionCount();
+
+  /** Gets the number of failed provisions of all bindings. */
+  long getFailureCount();
+
+  /**
+   * Gets the statistics of the provisioned bindings with the given key. There is more than one if
+   * child injectors bind the key separately.
+   */
+  List<BindingStatistics> getStatistics(String key);
+
+  /** Gets the statistics of the {@code n} bindings with the longest total provision time. */
+  List<BindingStatistics> getTopByTotalTime(int n);
+
+  /** Gets the statistics of the {@code n} bindings with the most provisions. */
+  List<BindingStatistics> getTopByProvisionCount(int n);
+
+  /** Gets the statistics of the {@code n} singletons that took the longest to create. */
+  List<BindingStatistics> getTopBySingletonCreationTime(int n);
+
+  /** Gets the statistics of the {@code n} bindings with the most failed provisions. */
+  List<BindingStatistics> getTopByFailureCount(int n);
+
+  /** Discards all statistics collected so far. */
+  void reset();
+}
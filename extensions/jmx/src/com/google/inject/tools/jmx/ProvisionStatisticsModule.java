@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.matcher.Matchers;
+
+/**
+ * Module that collects {@link ProvisionStatistics} for every binding of the injector and its child
+ * injectors. Install it in the root injector, and register the statistics with {@link
+ * Manager#manageStatistics}.
+ *
+ * @since 7.1
+ */
+public final class ProvisionStatisticsModule extends AbstractModule {
+
+  @Override
+  protected void configure() {
+    ProvisionStatistics statistics = new ProvisionStatistics();
+    bind(ProvisionStatistics.class).toInstance(statistics);
+    bindListener(Matchers.any(), statistics);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ProvisionStatisticsModule;
+  }
+
+  @Override
+  public int hashCode() {
+    return ProvisionStatisticsModule.class.hashCode();
+  }
+}
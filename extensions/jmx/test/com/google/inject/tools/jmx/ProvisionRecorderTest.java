@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.ProvisionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProvisionRecorderTest {
+
+  @Test
+  public void bucketOf_splitsOctavesInHalves() {
+    assertThat(ProvisionRecorder.bucketOf(0)).isEqualTo(0);
+    assertThat(ProvisionRecorder.bucketOf(1)).isEqualTo(0);
+    assertThat(ProvisionRecorder.bucketOf(2)).isEqualTo(2);
+    assertThat(ProvisionRecorder.bucketOf(3)).isEqualTo(3);
+    assertThat(ProvisionRecorder.bucketOf(4)).isEqualTo(4);
+    assertThat(ProvisionRecorder.bucketOf(5)).isEqualTo(4);
+    assertThat(ProvisionRecorder.bucketOf(6)).isEqualTo(5);
+    assertThat(ProvisionRecorder.bucketOf(7)).isEqualTo(5);
+    assertThat(ProvisionRecorder.bucketOf(8)).isEqualTo(6);
+    assertThat(ProvisionRecorder.bucketOf(11)).isEqualTo(6);
+    assertThat(ProvisionRecorder.bucketOf(12)).isEqualTo(7);
+    assertThat(ProvisionRecorder.bucketOf(15)).isEqualTo(7);
+    assertThat(ProvisionRecorder.bucketOf(16)).isEqualTo(8);
+  }
+
+  @Test
+  public void bucketOf_longTimesGoInTheLastBucket() {
+    assertThat(ProvisionRecorder.bucketOf(1L << 31)).isEqualTo(62);
+    assertThat(ProvisionRecorder.bucketOf((1L << 31) + (1L << 30) - 1)).isEqualTo(62);
+    assertThat(ProvisionRecorder.bucketOf((1L << 31) + (1L << 30))).isEqualTo(63);
+    assertThat(ProvisionRecorder.bucketOf(Long.MAX_VALUE)).isEqualTo(63);
+  }
+
+  @Test
+  public void bucketMax_isTheLargestTimeOfTheBucket() {
+    assertThat(ProvisionRecorder.bucketMax(0)).isEqualTo(1);
+    for (int bucket = 2; bucket < 63; bucket++) {
+      long max = ProvisionRecorder.bucketMax(bucket);
+      assertThat(ProvisionRecorder.bucketOf(max)).isEqualTo(bucket);
+      assertThat(ProvisionRecorder.bucketOf(max + 1)).isEqualTo(bucket + 1);
+    }
+  }
+
+  @Test
+  public void percentile_isTheLargestTimeOfItsBucketOrTheMaximum() {
+    long[] counts = new long[64];
+    counts[6] = 90; // 8 to 11ns
+    counts[19] = 10; // 768 to 1023ns
+    assertThat(ProvisionRecorder.percentile(counts, 100, 1000, 0.5)).isEqualTo(11);
+    assertThat(ProvisionRecorder.percentile(counts, 100, 1000, 0.9)).isEqualTo(11);
+    assertThat(ProvisionRecorder.percentile(counts, 100, 1000, 0.91)).isEqualTo(1000);
+    assertThat(ProvisionRecorder.percentile(counts, 100, 1000, 0.99)).isEqualTo(1000);
+  }
+
+  @Test
+  public void percentile_ofTheLastBucketIsTheMaximum() {
+    long[] counts = new long[64];
+    counts[63] = 1;
+    assertThat(ProvisionRecorder.percentile(counts, 1, Long.MAX_VALUE, 0.5))
+        .isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void percentile_withoutProvisionsIsZero() {
+    assertThat(ProvisionRecorder.percentile(new long[64], 0, 0, 0.5)).isEqualTo(0);
+  }
+
+  @Test
+  public void snapshot_summarizesProvisions() {
+    ProvisionRecorder recorder = new ProvisionRecorder(unscopedBinding());
+    for (int i = 0; i < 90; i++) {
+      recorder.recordProvision(10);
+    }
+    for (int i = 0; i < 10; i++) {
+      recorder.recordProvision(1000);
+    }
+
+    BindingStatistics statistics = recorder.snapshot();
+    assertThat(statistics.getKey()).isEqualTo(recorder.getKey());
+    assertThat(statistics.isSingleton()).isFalse();
+    assertThat(statistics.getProvisionCount()).isEqualTo(100);
+    assertThat(statistics.getTotalNanos()).isEqualTo(10900);
+    assertThat(statistics.getMeanNanos()).isEqualTo(109);
+    assertThat(statistics.getMedianNanos()).isEqualTo(11);
+    assertThat(statistics.getNinetiethPercentileNanos()).isEqualTo(11);
+    assertThat(statistics.getNinetyNinthPercentileNanos()).isEqualTo(1000);
+    assertThat(statistics.getMaxNanos()).isEqualTo(1000);
+    assertThat(statistics.getSingletonCreationNanos()).isEqualTo(-1);
+    assertThat(statistics.getFailureCount()).isEqualTo(0);
+    assertThat(statistics.getLastFailure()).isNull();
+  }
+
+  @Test
+  public void recordFailure_keepsTheRootCause() {
+    ProvisionRecorder recorder = new ProvisionRecorder(unscopedBinding());
+    long before = System.currentTimeMillis();
+    recorder.recordFailure(new ProvisionException("wrapped", new IllegalStateException("first")));
+    recorder.recordFailure(
+        new RuntimeException(new ProvisionException("wrapped", new ArithmeticException("last"))));
+
+    BindingStatistics statistics = recorder.snapshot();
+    assertThat(statistics.getProvisionCount()).isEqualTo(0);
+    assertThat(statistics.getFailureCount()).isEqualTo(2);
+    assertThat(statistics.getLastFailure()).isEqualTo("java.lang.ArithmeticException: last");
+    assertThat(statistics.getLastFailureMillis()).isAtLeast(before);
+  }
+
+  private static Binding<StringBuilder> unscopedBinding() {
+    return Guice.createInjector().getBinding(StringBuilder.class);
+  }
+}
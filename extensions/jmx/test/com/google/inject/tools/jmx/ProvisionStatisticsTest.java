@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.tools.jmx;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.Lists;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provides;
+import com.google.inject.ProvisionException;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProvisionStatisticsTest {
+
+  @Test
+  public void recordsProvisionsAndFailures() {
+    Injector injector = Guice.createInjector(new ProvisionStatisticsModule(), new FlakyModule());
+    injector.getInstance(StringBuilder.class);
+    injector.getInstance(StringBuilder.class);
+    assertThrows(ProvisionException.class, () -> injector.getInstance(String.class));
+    injector.getInstance(String.class);
+
+    // The statistics record their own provision too.
+    ProvisionStatistics statistics = injector.getInstance(ProvisionStatistics.class);
+    assertThat(statistics.getBindingCount()).isEqualTo(3);
+    assertThat(statistics.getProvisionCount()).isEqualTo(4);
+    assertThat(statistics.getFailureCount()).isEqualTo(1);
+
+    BindingStatistics flaky = getOnly(statistics.getStatistics(Key.get(String.class)));
+    assertThat(flaky.isSingleton()).isTrue();
+    assertThat(flaky.getProvisionCount()).isEqualTo(1);
+    assertThat(flaky.getSingletonCreationNanos()).isEqualTo(flaky.getTotalNanos());
+    assertThat(flaky.getFailureCount()).isEqualTo(1);
+    assertThat(flaky.getLastFailure()).isEqualTo("java.lang.IllegalStateException: flaky");
+    assertThat(getOnly(statistics.getTopByFailureCount(5)).getKey()).isEqualTo(flaky.getKey());
+    List<BindingStatistics> singletons = statistics.getTopBySingletonCreationTime(5);
+    assertThat(Lists.transform(singletons, BindingStatistics::getKey))
+        .containsExactly(flaky.getKey(), Key.get(ProvisionStatistics.class).toString());
+    assertThat(statistics.getTopByProvisionCount(1).get(0).getProvisionCount()).isEqualTo(2);
+
+    statistics.reset();
+    assertThat(statistics.getBindingCount()).isEqualTo(0);
+    assertThat(statistics.getStatistics(Key.get(String.class))).isEmpty();
+    injector.getInstance(StringBuilder.class);
+    assertThat(statistics.getProvisionCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void keepsTheStatisticsOfEachBindingOfAKey() {
+    Injector injector = Guice.createInjector(new ProvisionStatisticsModule());
+    Injector unscoped = injector.createChildInjector(new ObjectModule());
+    Injector singleton =
+        injector.createChildInjector(
+            new AbstractModule() {
+              @Provides
+              @Singleton
+              Object provideObject() {
+                return new Object();
+              }
+            });
+    unscoped.getInstance(Object.class);
+    unscoped.getInstance(Object.class);
+    singleton.getInstance(Object.class);
+    singleton.getInstance(Object.class);
+
+    List<BindingStatistics> statistics =
+        injector.getInstance(ProvisionStatistics.class).getStatistics(Key.get(Object.class));
+    assertThat(statistics).hasSize(2);
+    BindingStatistics first = statistics.get(0);
+    BindingStatistics second = statistics.get(1);
+    assertThat(first.isSingleton()).isFalse();
+    assertThat(first.getProvisionCount()).isEqualTo(2);
+    assertThat(second.isSingleton()).isTrue();
+    assertThat(second.getProvisionCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void sharesTheStatisticsOfIdenticalBindings() {
+    Injector injector = Guice.createInjector(new ProvisionStatisticsModule());
+    for (int i = 0; i < 3; i++) {
+      injector.createChildInjector(new ObjectModule()).getInstance(Object.class);
+    }
+
+    ProvisionStatistics statistics = injector.getInstance(ProvisionStatistics.class);
+    assertThat(getOnly(statistics.getStatistics(Key.get(Object.class))).getProvisionCount())
+        .isEqualTo(3);
+  }
+
+  @Test
+  public void mxBeanProxyReturnsTheSameStatistics() throws Exception {
+    Injector injector = Guice.createInjector(new ProvisionStatisticsModule(), new FlakyModule());
+    injector.getInstance(StringBuilder.class);
+    assertThrows(ProvisionException.class, () -> injector.getInstance(String.class));
+    injector.getInstance(String.class);
+    MBeanServer server = MBeanServerFactory.newMBeanServer();
+    Manager.manageStatistics(server, "test", injector);
+
+    ProvisionStatisticsMXBean proxy =
+        JMX.newMXBeanProxy(
+            server,
+            new ObjectName("test:type=ProvisionStatistics"),
+            ProvisionStatisticsMXBean.class);
+    ProvisionStatistics statistics = injector.getInstance(ProvisionStatistics.class);
+    assertThat(proxy.getBindingCount()).isEqualTo(statistics.getBindingCount());
+    assertThat(proxy.getProvisionCount()).isEqualTo(statistics.getProvisionCount());
+    assertThat(proxy.getFailureCount()).isEqualTo(statistics.getFailureCount());
+    for (Key<?> key : new Key<?>[] {Key.get(String.class), Key.get(StringBuilder.class)}) {
+      assertSameStatistics(
+          getOnly(proxy.getStatistics(key.toString())),
+          getOnly(statistics.getStatistics(key)));
+    }
+    assertThat(proxy.getStatistics("missing")).isEmpty();
+    assertThat(proxy.getTopByTotalTime(5)).hasSize(statistics.getBindingCount());
+
+    proxy.reset();
+    assertThat(statistics.getBindingCount()).isEqualTo(0);
+  }
+
+  private static void assertSameStatistics(BindingStatistics actual, BindingStatistics expected) {
+    assertThat(actual.getKey()).isEqualTo(expected.getKey());
+    assertThat(actual.getSource()).isEqualTo(expected.getSource());
+    assertThat(actual.isSingleton()).isEqualTo(expected.isSingleton());
+    assertThat(actual.getProvisionCount()).isEqualTo(expected.getProvisionCount());
+    assertThat(actual.getTotalNanos()).isEqualTo(expected.getTotalNanos());
+    assertThat(actual.getMeanNanos()).isEqualTo(expected.getMeanNanos());
+    assertThat(actual.getMedianNanos()).isEqualTo(expected.getMedianNanos());
+    assertThat(actual.getNinetiethPercentileNanos())
+        .isEqualTo(expected.getNinetiethPercentileNanos());
+    assertThat(actual.getNinetyNinthPercentileNanos())
+        .isEqualTo(expected.getNinetyNinthPercentileNanos());
+    assertThat(actual.getMaxNanos()).isEqualTo(expected.getMaxNanos());
+    assertThat(actual.getSingletonCreationNanos()).isEqualTo(expected.getSingletonCreationNanos());
+    assertThat(actual.getFailureCount()).isEqualTo(expected.getFailureCount());
+    assertThat(actual.getLastFailure()).isEqualTo(expected.getLastFailure());
+    assertThat(actual.getLastFailureMillis()).isEqualTo(expected.getLastFailureMillis());
+  }
+
+  private static BindingStatistics getOnly(List<BindingStatistics> statistics) {
+    assertThat(statistics).hasSize(1);
+    return statistics.get(0);
+  }
+
+  private static class ObjectModule extends AbstractModule {
+    @Provides
+    Object provideObject() {
+      return new Object();
+    }
+  }
+
+  /** Binds a singleton that fails the first time it's provisioned. */
+  private static class FlakyModule extends AbstractModule {
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Provides
+    @Singleton
+    String provideString() {
+      if (attempts.getAndIncrement() == 0) {
+        throw new IllegalStateException("flaky");
+      }
+      return "flaky";
+    }
+  }
+}